@@ -0,0 +1,22 @@
+package com.CodeSquad.IssueTracker.Exception;
+
+import com.CodeSquad.IssueTracker.Exception.filter.InvalidFilterQueryException;
+import com.CodeSquad.IssueTracker.Exception.filter.SavedFilterNotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+@ControllerAdvice
+public class FilterExceptionHandler {
+
+    @ExceptionHandler(InvalidFilterQueryException.class)
+    public ResponseEntity<String> handleInvalidFilterQueryException(InvalidFilterQueryException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(SavedFilterNotFoundException.class)
+    public ResponseEntity<String> handleSavedFilterNotFoundException(SavedFilterNotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+    }
+}
@@ -3,6 +3,7 @@ package com.CodeSquad.IssueTracker.Exception;
 import com.CodeSquad.IssueTracker.Exception.issue.AuthorNotFoundException;
 import com.CodeSquad.IssueTracker.Exception.issue.InvalidIssueDataException;
 import com.CodeSquad.IssueTracker.Exception.issue.InvalidIssuePageException;
+import com.CodeSquad.IssueTracker.Exception.issue.IssueLoadTimeoutException;
 import com.CodeSquad.IssueTracker.Exception.issue.IssueNotExistException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -30,4 +31,9 @@ public class IssueExceptionHandler {
     public ResponseEntity<String> handleIssueNotExistException(IssueNotExistException ex) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
     }
+
+    @ExceptionHandler(IssueLoadTimeoutException.class)
+    public ResponseEntity<String> handleIssueLoadTimeoutException(IssueLoadTimeoutException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ex.getMessage());
+    }
 }
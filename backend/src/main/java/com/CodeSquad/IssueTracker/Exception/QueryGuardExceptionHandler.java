@@ -0,0 +1,32 @@
+package com.CodeSquad.IssueTracker.Exception;
+
+import com.CodeSquad.IssueTracker.Exception.guard.DeepPageException;
+import com.CodeSquad.IssueTracker.guard.QueryCostGuard;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+@Slf4j
+@ControllerAdvice
+public class QueryGuardExceptionHandler {
+    private final QueryCostGuard queryCostGuard;
+
+    public QueryGuardExceptionHandler(QueryCostGuard queryCostGuard) {
+        this.queryCostGuard = queryCostGuard;
+    }
+
+    @ExceptionHandler(DeepPageException.class)
+    public ResponseEntity<String> handleDeepPageException(DeepPageException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(QueryTimeoutException.class)
+    public ResponseEntity<String> handleQueryTimeoutException(QueryTimeoutException ex) {
+        queryCostGuard.recordTimeout();
+        log.warn("조회 시간 초과: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("조회 시간이 초과되었습니다. 조건을 좁혀 다시 시도해 주세요.");
+    }
+}
@@ -0,0 +1,16 @@
+package com.CodeSquad.IssueTracker.Exception;
+
+import com.CodeSquad.IssueTracker.Exception.search.SearchIndexException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+@ControllerAdvice
+public class SearchExceptionHandler {
+
+    @ExceptionHandler(SearchIndexException.class)
+    public ResponseEntity<String> handleSearchIndexException(SearchIndexException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ex.getMessage());
+    }
+}
@@ -0,0 +1,7 @@
+package com.CodeSquad.IssueTracker.Exception.filter;
+
+public class InvalidFilterQueryException extends RuntimeException {
+    public InvalidFilterQueryException(String message) {
+        super(message);
+    }
+}
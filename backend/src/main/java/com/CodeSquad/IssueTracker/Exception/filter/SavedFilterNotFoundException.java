@@ -0,0 +1,7 @@
+package com.CodeSquad.IssueTracker.Exception.filter;
+
+public class SavedFilterNotFoundException extends RuntimeException {
+    public SavedFilterNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.CodeSquad.IssueTracker.Exception.guard;
+
+public class DeepPageException extends RuntimeException {
+    public DeepPageException(String message) {
+        super(message);
+    }
+}
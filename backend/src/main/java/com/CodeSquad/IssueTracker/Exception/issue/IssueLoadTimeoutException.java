@@ -0,0 +1,7 @@
+package com.CodeSquad.IssueTracker.Exception.issue;
+
+public class IssueLoadTimeoutException extends RuntimeException {
+    public IssueLoadTimeoutException(String message) {
+        super(message);
+    }
+}
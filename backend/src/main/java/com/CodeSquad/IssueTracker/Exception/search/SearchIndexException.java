@@ -0,0 +1,7 @@
+package com.CodeSquad.IssueTracker.Exception.search;
+
+public class SearchIndexException extends RuntimeException {
+    public SearchIndexException(String message) {
+        super(message);
+    }
+}
@@ -1,7 +1,6 @@
 package com.CodeSquad.IssueTracker.assignee;
 
 import com.CodeSquad.IssueTracker.Exception.user.UserNotFoundException;
-import com.CodeSquad.IssueTracker.user.User;
 import com.CodeSquad.IssueTracker.user.UserService;
 import org.springframework.stereotype.Service;
 
@@ -19,8 +18,7 @@ public class AssigneeService {
     }
 
     public void validateAssigneeIds(Set<String> assigneeIds) {
-        Set<User> allByIds = userService.findAllByIds(assigneeIds);
-        if (allByIds.size() != assigneeIds.size())
+        if (!userService.existsAllUsers(assigneeIds))
             throw new UserNotFoundException("존재하지 않는 유저가 포함되어 있습니다.");
     }
 
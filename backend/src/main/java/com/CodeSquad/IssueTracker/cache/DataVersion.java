@@ -0,0 +1,85 @@
+package com.CodeSquad.IssueTracker.cache;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 버전은 이 서버의 메모리에만 있고, 다른 서버에서 일어난 쓰기는 알지 못한다.
+// 따라서 이 버전으로 만든 ETag와 캐시는 서버 한 대로 운영할 때만 정확하다.
+@Component
+public class DataVersion {
+    // 이슈별 버전은 고정 크기 배열에 이슈 id 해시로 나누어 담는다. 같은 칸의 다른 이슈가 바뀌어도
+    // 버전이 오르므로 불필요한 재조회가 생길 수는 있지만 오래된 값을 돌려주지는 않는다.
+    private static final int ISSUE_VERSION_STRIPES = 4096;
+
+    // 서버마다 버전이 따로 증가하므로 ETag가 다른 인스턴스의 값과 섞이지 않도록 기동 시각을 붙인다.
+    private final String instanceTag = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong catalogGeneration = new AtomicLong();
+    // 필터 목록(GET /filters)에 들어가는 이슈 개수, 라벨, 마일스톤, 사용자만 바뀔 때 오른다.
+    private final AtomicLong filterListGeneration = new AtomicLong();
+    private final AtomicLongArray issueVersions = new AtomicLongArray(ISSUE_VERSION_STRIPES);
+
+    public long current() {
+        return generation.get();
+    }
+
+    public void bump() {
+        generation.incrementAndGet();
+        // 트랜잭션 안에서 변경된 경우, 커밋 전에 이전 데이터를 읽어 캐시한 결과도 무효화되도록 종료 시점에 한 번 더 올린다.
+        afterCompletion(generation::incrementAndGet);
+    }
+
+    public long filterListGeneration() {
+        return filterListGeneration.get();
+    }
+
+    // 라벨, 마일스톤처럼 여러 이슈 상세에 함께 노출되는 데이터가 바뀐 경우
+    public void bumpCatalog() {
+        catalogGeneration.incrementAndGet();
+        afterCompletion(catalogGeneration::incrementAndGet);
+        bumpFilterList();
+    }
+
+    // 열린/닫힌 이슈 수나 사용자 목록이 바뀐 경우
+    public void bumpFilterList() {
+        filterListGeneration.incrementAndGet();
+        afterCompletion(filterListGeneration::incrementAndGet);
+        bump();
+    }
+
+    // 이슈 상세에만 보이는 변경(코멘트 등)은 해당 칸만 올린다. 목록에 보이는 값도 바뀌었다면 bump() 를 함께 부른다.
+    public void bumpIssue(Long issueId) {
+        int stripe = stripe(issueId);
+        issueVersions.incrementAndGet(stripe);
+        afterCompletion(() -> issueVersions.incrementAndGet(stripe));
+    }
+
+    public String listETag() {
+        return "W/\"l-" + instanceTag + "-" + generation.get() + "\"";
+    }
+
+    public String issueETag(Long issueId) {
+        return "W/\"i-" + instanceTag + "-" + issueVersions.get(stripe(issueId))
+                + "-" + catalogGeneration.get() + "\"";
+    }
+
+    private int stripe(Long issueId) {
+        return Math.floorMod(Long.hashCode(issueId), ISSUE_VERSION_STRIPES);
+    }
+
+    private void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+}
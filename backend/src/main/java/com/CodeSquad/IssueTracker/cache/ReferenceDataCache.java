@@ -0,0 +1,218 @@
+package com.CodeSquad.IssueTracker.cache;
+
+import com.CodeSquad.IssueTracker.labels.Label;
+import com.CodeSquad.IssueTracker.labels.LabelRepository;
+import com.CodeSquad.IssueTracker.milestone.Milestone;
+import com.CodeSquad.IssueTracker.milestone.MilestoneRepository;
+import com.CodeSquad.IssueTracker.user.User;
+import com.CodeSquad.IssueTracker.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 라벨, 마일스톤 제목, 사용자 id 처럼 작고 드물게 바뀌는 데이터를 메모리에 두고 검증/조회에 쓴다.
+// 처음 필요할 때 통째로 읽고, 각 서비스의 생성/수정/삭제에서 무효화한다.
+// 다른 서버에서 생긴 변경은 무효화가 오지 않으므로 TTL 이 지나면 다시 읽고,
+// 캐시에 없는 id/이름은 저장소에서 한 번 더 확인한 뒤에만 없다고 판단한다.
+@Slf4j
+@Component
+public class ReferenceDataCache {
+    private final LabelRepository labelRepository;
+    private final MilestoneRepository milestoneRepository;
+    private final UserRepository userRepository;
+    private final CachedValue<LabelCatalog> labels;
+    private final CachedValue<MilestoneCatalog> milestones;
+    private final CachedValue<Set<String>> userIds;
+
+    public ReferenceDataCache(LabelRepository labelRepository, MilestoneRepository milestoneRepository,
+                              UserRepository userRepository,
+                              @Value("${reference-cache.ttl-ms:30000}") long ttlMillis) {
+        this.labelRepository = labelRepository;
+        this.milestoneRepository = milestoneRepository;
+        this.userRepository = userRepository;
+        long ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.labels = new CachedValue<>("labels", ttlNanos, () -> LabelCatalog.of(labelRepository.findAll()));
+        this.milestones = new CachedValue<>("milestones", ttlNanos, () -> {
+            Map<Long, String> titles = new HashMap<>();
+            milestoneRepository.findAll().forEach(milestone -> titles.put(milestone.getMilestoneId(), milestone.getTitle()));
+            return MilestoneCatalog.of(titles);
+        });
+        this.userIds = new CachedValue<>("users", ttlNanos, () -> Set.copyOf(userRepository.getAllUserIds()));
+    }
+
+    public Map<Long, Label> getLabels() {
+        return labels.get().byId();
+    }
+
+    public Optional<Label> findLabel(Long labelId) {
+        return Optional.ofNullable(findLabels(Set.of(labelId)).get(labelId));
+    }
+
+    // 캐시에 없는 id 만 저장소에서 다시 찾는다. 찾은 것이 있으면 캐시가 오래된 것이므로 비운다.
+    public Map<Long, Label> findLabels(Set<Long> labelIds) {
+        Map<Long, Label> cached = labels.get().byId();
+        Map<Long, Label> found = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        for (Long labelId : labelIds) {
+            Label label = cached.get(labelId);
+            if (label != null) {
+                found.put(labelId, label);
+            } else {
+                missing.add(labelId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Set<Label> loaded = labelRepository.findAllById(missing);
+            if (!loaded.isEmpty()) {
+                loaded.forEach(label -> found.put(label.getLabelId(), label));
+                labels.invalidate();
+            }
+        }
+        return found;
+    }
+
+    public Optional<Long> findLabelIdByName(String labelName) {
+        Long labelId = labels.get().idsByName().get(labelName);
+        if (labelId != null) {
+            return Optional.of(labelId);
+        }
+        Optional<Long> loaded = labelRepository.findByLabelName(labelName).map(Label::getLabelId);
+        loaded.ifPresent(id -> labels.invalidate());
+        return loaded;
+    }
+
+    public Map<Long, String> getMilestoneTitles() {
+        return milestones.get().titles();
+    }
+
+    public Optional<Long> findMilestoneIdByTitle(String title) {
+        Long milestoneId = milestones.get().idsByTitle().get(title);
+        if (milestoneId != null) {
+            return Optional.of(milestoneId);
+        }
+        Optional<Long> loaded = Optional.ofNullable(milestoneRepository.findByTitle(title)).map(Milestone::getMilestoneId);
+        loaded.ifPresent(id -> milestones.invalidate());
+        return loaded;
+    }
+
+    public boolean containsMilestone(Long milestoneId) {
+        if (milestones.get().titles().containsKey(milestoneId)) {
+            return true;
+        }
+        boolean exists = milestoneRepository.existsById(milestoneId);
+        if (exists) {
+            milestones.invalidate();
+        }
+        return exists;
+    }
+
+    public Set<String> getUserIds() {
+        return userIds.get();
+    }
+
+    public boolean containsUser(String userId) {
+        return containsAllUsers(Set.of(userId));
+    }
+
+    public boolean containsAllUsers(Set<String> candidates) {
+        Set<String> cached = userIds.get();
+        Set<String> missing = new HashSet<>();
+        for (String userId : candidates) {
+            if (!cached.contains(userId)) {
+                missing.add(userId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return true;
+        }
+        Set<User> loaded = userRepository.findAllById(missing);
+        if (!loaded.isEmpty()) {
+            userIds.invalidate();
+        }
+        return loaded.size() == missing.size();
+    }
+
+    public void invalidateLabels() {
+        labels.invalidate();
+    }
+
+    public void invalidateMilestones() {
+        milestones.invalidate();
+    }
+
+    public void invalidateUsers() {
+        userIds.invalidate();
+    }
+
+    private record LabelCatalog(Map<Long, Label> byId, Map<String, Long> idsByName) {
+        private static LabelCatalog of(Iterable<Label> labels) {
+            Map<Long, Label> byId = new HashMap<>();
+            Map<String, Long> idsByName = new HashMap<>();
+            for (Label label : labels) {
+                byId.put(label.getLabelId(), label);
+                idsByName.put(label.getLabelName(), label.getLabelId());
+            }
+            return new LabelCatalog(Collections.unmodifiableMap(byId), Collections.unmodifiableMap(idsByName));
+        }
+    }
+
+    private record MilestoneCatalog(Map<Long, String> titles, Map<String, Long> idsByTitle) {
+        private static MilestoneCatalog of(Map<Long, String> titles) {
+            Map<String, Long> idsByTitle = new HashMap<>();
+            titles.forEach((milestoneId, title) -> idsByTitle.put(title, milestoneId));
+            return new MilestoneCatalog(Collections.unmodifiableMap(titles), Collections.unmodifiableMap(idsByTitle));
+        }
+    }
+
+    // 읽는 도중 무효화되면 읽은 값은 이번 호출에만 쓰고 저장하지 않는다.
+    private static class CachedValue<T> {
+        private final String name;
+        private final long ttlNanos;
+        private final Supplier<T> loader;
+        private final AtomicLong generation = new AtomicLong();
+        private volatile Loaded<T> loaded;
+
+        private CachedValue(String name, long ttlNanos, Supplier<T> loader) {
+            this.name = name;
+            this.ttlNanos = ttlNanos;
+            this.loader = loader;
+        }
+
+        private T get() {
+            long current = generation.get();
+            long now = System.nanoTime();
+            Loaded<T> cached = loaded;
+            if (cached != null && cached.generation() == current && now - cached.loadedAt() < ttlNanos) {
+                return cached.value();
+            }
+            T value = loader.get();
+            if (generation.get() == current) {
+                loaded = new Loaded<>(current, now, value);
+                log.info("참조 데이터 캐시 적재: {}", name);
+            }
+            return value;
+        }
+
+        // 트랜잭션 안에서 바뀐 경우 커밋 전에 이전 값을 다시 읽어 둘 수 있으므로 종료 시점에 한 번 더 무효화한다.
+        private void invalidate() {
+            generation.incrementAndGet();
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        generation.incrementAndGet();
+                    }
+                });
+            }
+        }
+    }
+
+    private record Loaded<T>(long generation, long loadedAt, T value) { }
+}
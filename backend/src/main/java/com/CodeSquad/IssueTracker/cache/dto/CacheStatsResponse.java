@@ -0,0 +1,13 @@
+package com.CodeSquad.IssueTracker.cache.dto;
+
+import lombok.Builder;
+
+@Builder
+public record CacheStatsResponse(
+        long size,
+        long maxSize,
+        long hitCount,
+        long missCount,
+        long evictionCount,
+        double hitRate)
+{ }
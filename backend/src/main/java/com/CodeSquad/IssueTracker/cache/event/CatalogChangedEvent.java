@@ -0,0 +1,44 @@
+package com.CodeSquad.IssueTracker.cache.event;
+
+// 라벨 이름이나 마일스톤 제목처럼 이름으로 이슈를 찾는 조건의 의미가 바뀌는 변경
+public record CatalogChangedEvent(
+        Kind kind,
+        Long targetId)
+{
+    public static CatalogChangedEvent labelRenamed(Long labelId) {
+        return new CatalogChangedEvent(Kind.LABEL_RENAMED, labelId);
+    }
+
+    public static CatalogChangedEvent labelDeleted(Long labelId) {
+        return new CatalogChangedEvent(Kind.LABEL_DELETED, labelId);
+    }
+
+    public static CatalogChangedEvent milestoneRenamed(Long milestoneId) {
+        return new CatalogChangedEvent(Kind.MILESTONE_RENAMED, milestoneId);
+    }
+
+    public static CatalogChangedEvent milestoneDeleted(Long milestoneId) {
+        return new CatalogChangedEvent(Kind.MILESTONE_DELETED, milestoneId);
+    }
+
+    public String reason() {
+        return kind.getDescription() + ": " + targetId;
+    }
+
+    public enum Kind {
+        LABEL_RENAMED("라벨 이름 변경"),
+        LABEL_DELETED("라벨 삭제"),
+        MILESTONE_RENAMED("마일스톤 제목 변경"),
+        MILESTONE_DELETED("마일스톤 삭제");
+
+        private final String description;
+
+        Kind(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.CodeSquad.IssueTracker.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Configuration
+public class ExecutorConfig {
+
+    // JDK 21 이상에서 실행되면 가상 스레드를, 아니면 크기가 제한된 스레드 풀을 사용한다.
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService fanOutExecutor(@Value("${issue.fan-out.threads:32}") int threads) {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            log.info("병렬 조회에 가상 스레드를 사용합니다.");
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            log.info("병렬 조회에 스레드 풀을 사용합니다. threads: {}", threads);
+            AtomicInteger sequence = new AtomicInteger();
+            return new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(threads * 16),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "fan-out-" + sequence.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+    }
+}
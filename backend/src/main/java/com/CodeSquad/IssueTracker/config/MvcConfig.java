@@ -36,6 +36,7 @@ public class MvcConfig implements WebMvcConfigurer {
                 )
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("ETag", "X-Total-Count", "X-Total-Count-Exact", "X-Has-More")
                 .allowCredentials(true);
     }
 }
@@ -0,0 +1,30 @@
+package com.CodeSquad.IssueTracker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+// MySQL 드라이버가 같은 SQL 문자열의 PreparedStatement를 커넥션마다 재사용하도록 한다.
+@Component
+public class PreparedStatementCacheConfig implements BeanPostProcessor {
+    private final int cacheSize;
+    private final int sqlLimit;
+
+    public PreparedStatementCacheConfig(@Value("${datasource.prep-stmt-cache-size:250}") int cacheSize,
+                                        @Value("${datasource.prep-stmt-cache-sql-limit:2048}") int sqlLimit) {
+        this.cacheSize = cacheSize;
+        this.sqlLimit = sqlLimit;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+            dataSource.addDataSourceProperty("cachePrepStmts", "true");
+            dataSource.addDataSourceProperty("useServerPrepStmts", "true");
+            dataSource.addDataSourceProperty("prepStmtCacheSize", String.valueOf(cacheSize));
+            dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", String.valueOf(sqlLimit));
+        }
+        return bean;
+    }
+}
@@ -1,147 +1,239 @@
 package com.CodeSquad.IssueTracker.filter;
 
-import com.CodeSquad.IssueTracker.issues.dto.IssueDetailAccess;
-import com.CodeSquad.IssueTracker.issues.dto.IssueListResponse;
-import com.CodeSquad.IssueTracker.issues.issueLabel.dto.LabelRequest;
+import com.CodeSquad.IssueTracker.filter.dto.FilterShapeStatsResponse;
+import com.CodeSquad.IssueTracker.filter.query.FilterField;
+import com.CodeSquad.IssueTracker.filter.query.FilterQuery;
+import com.CodeSquad.IssueTracker.guard.QueryCostGuard;
+import com.CodeSquad.IssueTracker.issues.listview.IssueListView;
+import com.CodeSquad.IssueTracker.issues.listview.IssueListViewRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
 import java.util.*;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 @Repository
 public class CustomFilterRepository {
     private final JdbcTemplate jdbcTemplate;
-
-    public CustomFilterRepository(JdbcTemplate jdbcTemplate) {
-        this.jdbcTemplate = jdbcTemplate;
-    }
-
-    public List<IssueListResponse> findFilteredIssues(Boolean isClosed, String assignee, List<String> labels, String milestone, String author, Long page, Long size) {
-        List<Long> issueIds = findIssueIds(isClosed, assignee, labels, milestone, author, page, size);
-        List<IssueDetailAccess> issues = findIssueDetailsByIds(issueIds);
-        return transformToIssueListResponses(issues);
+    private final JdbcTemplate backgroundJdbcTemplate;
+    private final IssueListViewRepository issueListViewRepository;
+    private final QueryCostGuard queryCostGuard;
+    // 형태별로 컴파일한 SQL 과 실행 통계. 자주 쓰지 않는 형태부터 버린다.
+    private final Map<FilterShape, FilterPlan> plans;
+
+    // 사용자 요청으로 실행되는 조회는 시간 제한이 걸린 JdbcTemplate 을 쓴다.
+    public CustomFilterRepository(JdbcTemplate jdbcTemplate, QueryCostGuard queryCostGuard,
+                                  IssueListViewRepository issueListViewRepository,
+                                  @Value("${filter.plan-cache.max-size:256}") int maxPlans) {
+        this.jdbcTemplate = queryCostGuard.jdbcTemplate();
+        this.backgroundJdbcTemplate = jdbcTemplate;
+        this.issueListViewRepository = issueListViewRepository;
+        this.queryCostGuard = queryCostGuard;
+        this.plans = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FilterShape, FilterPlan> eldest) {
+                return size() > maxPlans;
+            }
+        };
     }
 
-    private List<Long> findIssueIds(Boolean isClosed, String assignee, List<String> labels, String milestone, String author, Long page, Long size) {
-        StringBuilder sql = new StringBuilder("SELECT DISTINCT i.issue_id " +
-                "FROM issues i ");
+    // 모든 조건을 issue_list_view 한 테이블에서 검사하므로
+    // (is_closed, issue_id) 인덱스를 역순으로 훑다가 LIMIT 만큼 찾으면 멈춘다.
+    public List<IssueListView> findIssues(FilterQuery query, long limit, long offset) {
+        List<Object> params = whereParams(query);
+        params.add(limit);
+        params.add(offset);
 
-        if (assignee != null && !assignee.isEmpty()) {
-            sql.append("LEFT JOIN assignees a ON i.issue_id = a.issue_id ");
+        FilterPlan plan = plan(query.shape());
+        long startedAt = System.nanoTime();
+        try {
+            return jdbcTemplate.query(plan.sql, issueListViewRepository.rowMapper(), params.toArray());
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            plan.record(elapsedNanos);
+            queryCostGuard.record("filter " + query.shape().describe(), elapsedNanos);
         }
+    }
 
-        if (labels != null && !labels.isEmpty()) {
-            sql.append("JOIN issueLabel il ON i.issue_id = il.issue_id ")
-                    .append("JOIN labels l ON il.label_id = l.label_id ");
+    // cap 개까지만 센다. 결과가 cap 이면 실제 개수는 그 이상일 수 있다.
+    public long countIssues(FilterQuery query, long cap) {
+        List<Object> params = whereParams(query);
+        params.add(cap);
+
+        FilterPlan plan = plan(query.shape());
+        long startedAt = System.nanoTime();
+        try {
+            return jdbcTemplate.queryForObject(plan.countSql, Long.class, params.toArray());
+        } finally {
+            queryCostGuard.record("filter count " + query.shape().describe(), System.nanoTime() - startedAt);
         }
+    }
 
-        if (milestone != null && !milestone.isEmpty()) {
-            sql.append("JOIN milestone m ON i.milestone_id = m.milestone_id ");
-        }
+    // 저장된 필터를 채울 때 백그라운드에서 쓴다. 큰 id 부터 limit 개까지 읽으며 시간 제한을 두지 않는다.
+    public List<Long> findIssueIds(FilterQuery query, long limit) {
+        List<Object> params = whereParams(query);
+        params.add(limit);
 
-        sql.append("WHERE i.is_closed = ? ");
-        List<Object> params = new ArrayList<>();
-        params.add(isClosed);
+        FilterPlan plan = plan(query.shape());
+        return backgroundJdbcTemplate.queryForList("SELECT v.issue_id FROM issue_list_view v " + plan.where +
+                "ORDER BY v.issue_id DESC LIMIT ?", Long.class, params.toArray());
+    }
 
-        if (assignee != null && !assignee.isEmpty()) {
-            sql.append("AND a.user_id = ? ");
-            params.add(assignee);
+    // 검색 후보 중 필터 조건에 맞는 이슈 id만 남긴다.
+    public Set<Long> filterIssueIds(FilterQuery query, List<Long> candidateIds) {
+        if (candidateIds.isEmpty()) {
+            return Collections.emptySet();
         }
+        List<Object> params = whereParams(query);
+        params.addAll(candidateIds);
 
-        if (milestone != null && !milestone.isEmpty()) {
-            sql.append("AND m.title = ? ");
-            params.add(milestone);
+        FilterPlan plan = plan(query.shape());
+        String sql = "SELECT v.issue_id FROM issue_list_view v " + plan.where +
+                "AND v.issue_id IN (" + String.join(",", Collections.nCopies(candidateIds.size(), "?")) + ")";
+        return new HashSet<>(jdbcTemplate.queryForList(sql, Long.class, params.toArray()));
+    }
+
+    // 값별 개수는 DB에서 GROUP BY 로 센다. 조건에 맞는 이슈 행을 애플리케이션으로 가져오지 않는다.
+    public FacetCounts countFacets(FilterQuery query) {
+        FilterPlan plan = plan(query.shape());
+        Object[] params = whereParams(query).toArray();
+        FacetCounts facets = FacetCounts.empty();
+        long startedAt = System.nanoTime();
+        try {
+            jdbcTemplate.query(plan.authorFacetSql, rs -> {
+                facets.authors().put(rs.getString("author"), rs.getLong("matched"));
+            }, params);
+            jdbcTemplate.query(plan.milestoneFacetSql, rs -> {
+                facets.milestones().put(rs.getLong("milestone_id"), rs.getLong("matched"));
+            }, params);
+            jdbcTemplate.query(plan.assigneeFacetSql, rs -> {
+                facets.assignees().put(rs.getString("user_id"), rs.getLong("matched"));
+            }, params);
+            jdbcTemplate.query(plan.labelFacetSql, rs -> {
+                facets.labels().put(rs.getLong("label_id"), rs.getLong("matched"));
+            }, params);
+        } finally {
+            queryCostGuard.record("filter facets " + query.shape().describe(), System.nanoTime() - startedAt);
         }
+        // 이슈마다 작성자는 정확히 한 명이므로 작성자별 개수의 합이 전체 개수다.
+        long total = facets.authors().values().stream().mapToLong(Long::longValue).sum();
+        return new FacetCounts(total, facets.labels(), facets.assignees(), facets.authors(), facets.milestones());
+    }
 
-        if (author != null && !author.isEmpty()) {
-            sql.append("AND i.author = ? ");
-            params.add(author);
+    public List<FilterShapeStatsResponse> getShapeStats() {
+        List<Map.Entry<FilterShape, FilterPlan>> snapshot;
+        synchronized (plans) {
+            snapshot = new ArrayList<>(plans.entrySet());
         }
+        return snapshot.stream()
+                .map(entry -> entry.getValue().toStats(entry.getKey()))
+                .sorted(Comparator.comparingLong(FilterShapeStatsResponse::executionCount).reversed())
+                .toList();
+    }
 
-        if (labels != null && !labels.isEmpty()) {
-            sql.append("AND i.issue_id IN (")
-                    .append("SELECT il.issue_id FROM issueLabel il ")
-                    .append("JOIN labels l ON il.label_id = l.label_id ")
-                    .append("WHERE l.label_name IN (")
-                    .append(String.join(",", Collections.nCopies(labels.size(), "?")))
-                    .append(") ")
-                    .append("GROUP BY il.issue_id ")
-                    .append("HAVING COUNT(DISTINCT l.label_name) = ?) ");
-            params.addAll(labels);
-            params.add(labels.size());
+    private FilterPlan plan(FilterShape shape) {
+        synchronized (plans) {
+            return plans.computeIfAbsent(shape, this::compile);
         }
-        sql.append("ORDER BY i.issue_id DESC ");
-        Long offset = (page - 1) * size;
-        sql.append("LIMIT ? OFFSET ?");
-        params.add(size);
-        params.add(offset);
+    }
 
-        return jdbcTemplate.query(sql.toString(), params.toArray(), (rs, rowNum) -> rs.getLong("issue_id"));
+    // 파라미터는 where 절의 ? 순서와 같아야 한다. 정규화된 조건 순서대로 값을 넣는다.
+    private List<Object> whereParams(FilterQuery query) {
+        List<Object> params = new ArrayList<>();
+        params.add(query.isClosed());
+        query.clauses().forEach(clause -> params.addAll(clause.values()));
+        return params;
     }
 
-    private List<IssueDetailAccess> findIssueDetailsByIds(List<Long> issueIds) {
-        if (issueIds.isEmpty()) {
-            return Collections.emptyList();
+    private FilterPlan compile(FilterShape shape) {
+        StringBuilder where = new StringBuilder("WHERE v.is_closed = ? ");
+        for (FilterShape.ClauseShape clause : shape.clauses()) {
+            where.append("AND ").append(clausePredicate(clause)).append(" ");
         }
 
-        String sql = "SELECT i.issue_id, i.title, i.author, i.published_at, i.is_closed, i.milestone_id, " +
-                "a.user_id AS assignee, l.label_id, l.label_name, l.bg_color, l.text_color " +
-                "FROM issues i " +
-                "LEFT JOIN assignees a ON i.issue_id = a.issue_id " +
-                "LEFT JOIN issueLabel il ON i.issue_id = il.issue_id " +
-                "LEFT JOIN labels l ON il.label_id = l.label_id " +
-                "WHERE i.issue_id IN (" + String.join(",", Collections.nCopies(issueIds.size(), "?")) + ")";
-
-        return jdbcTemplate.query(sql, issueIds.toArray(), issueRowMapper());
+        String sql = "SELECT v.* FROM issue_list_view v " + where + "ORDER BY v.issue_id DESC LIMIT ? OFFSET ?";
+        String countSql = "SELECT COUNT(*) FROM (SELECT 1 FROM issue_list_view v " + where + "LIMIT ?) matched";
+        String authorFacetSql = "SELECT v.author, COUNT(*) AS matched FROM issue_list_view v " + where +
+                "GROUP BY v.author";
+        String milestoneFacetSql = "SELECT v.milestone_id, COUNT(*) AS matched FROM issue_list_view v " + where +
+                "AND v.milestone_id IS NOT NULL GROUP BY v.milestone_id";
+        String assigneeFacetSql = "SELECT a.user_id, COUNT(*) AS matched FROM issue_list_view v " +
+                "JOIN assignees a ON a.issue_id = v.issue_id " + where + "GROUP BY a.user_id";
+        String labelFacetSql = "SELECT il.label_id, COUNT(*) AS matched FROM issue_list_view v " +
+                "JOIN issueLabel il ON il.issue_id = v.issue_id " + where + "GROUP BY il.label_id";
+        return new FilterPlan(where.toString(), sql, countSql,
+                authorFacetSql, milestoneFacetSql, assigneeFacetSql, labelFacetSql);
     }
 
-    private RowMapper<IssueDetailAccess> issueRowMapper() {
-        return (rs, rowNum) -> new IssueDetailAccess(
-                rs.getLong("issue_id"),
-                rs.getString("title"),
-                rs.getString("author"),
-                rs.getTimestamp("published_at").toLocalDateTime(),
-                rs.getBoolean("is_closed"),
-                rs.getString("assignee"),
-                rs.getLong("label_id"),
-                rs.getString("label_name"),
-                rs.getString("bg_color"),
-                rs.getString("text_color"),
-                rs.getLong("milestone_id")
-        );
+    // 담당자/레이블은 목록 문자열 대신 assignees, issueLabel 의 (issue_id, ...) 인덱스를 타는 EXISTS 로 찾는다.
+    // 부정 조건에서 NULL 이 섞이면 행이 통째로 빠지므로, NULL 이 나올 수 있는 마일스톤 비교만 부정할 때 거짓으로 바꾼다.
+    private String clausePredicate(FilterShape.ClauseShape clause) {
+        String predicate;
+        if (clause.valueCount() == 0) {
+            predicate = switch (clause.field()) {
+                case ASSIGNEE -> "NOT EXISTS (SELECT 1 FROM assignees a WHERE a.issue_id = v.issue_id)";
+                case LABEL -> "NOT EXISTS (SELECT 1 FROM issueLabel il WHERE il.issue_id = v.issue_id)";
+                case MILESTONE -> "v.milestone_id IS NULL";
+                case AUTHOR -> "v.author IS NULL";
+            };
+        } else {
+            String placeholders = String.join(", ", Collections.nCopies(clause.valueCount(), "?"));
+            predicate = switch (clause.field()) {
+                case ASSIGNEE -> "EXISTS (SELECT 1 FROM assignees a WHERE a.issue_id = v.issue_id " +
+                        "AND a.user_id IN (" + placeholders + "))";
+                case LABEL -> "EXISTS (SELECT 1 FROM issueLabel il JOIN labels l ON l.label_id = il.label_id " +
+                        "WHERE il.issue_id = v.issue_id AND l.label_name IN (" + placeholders + "))";
+                case MILESTONE -> "(" + String.join(" OR ", Collections.nCopies(clause.valueCount(),
+                        "v.milestone_id = (SELECT m.milestone_id FROM milestone m WHERE m.title = ? LIMIT 1)")) + ")";
+                case AUTHOR -> "v.author IN (" + placeholders + ")";
+            };
+            if (clause.negated() && clause.field() == FilterField.MILESTONE) {
+                predicate = "IFNULL(" + predicate + ", FALSE)";
+            }
+        }
+        return clause.negated() ? "NOT " + predicate : predicate;
     }
 
-    private List<IssueListResponse> transformToIssueListResponses(List<IssueDetailAccess> issueDetails) {
-        Map<Long, IssueListResponse> issueMap = new LinkedHashMap<>();
-
-        for (IssueDetailAccess detail : issueDetails) {
-            IssueListResponse response = issueMap.computeIfAbsent(detail.getIssueId(), id -> IssueListResponse.builder()
-                    .issueId(detail.getIssueId())
-                    .title(detail.getTitle())
-                    .author(detail.getAuthor())
-                    .publishedAt(detail.getPublishedAt())
-                    .isClosed(detail.getIsClosed())
-                    .milestoneId(detail.getMilestoneId())
-                    .assignees(new ArrayList<>())
-                    .labels(new ArrayList<>())
-                    .build()
-            );
-
-            if (detail.getAssignee() != null && !response.getAssignees().contains(detail.getAssignee())) {
-                response.getAssignees().add(detail.getAssignee());
-            }
 
-            if (detail.getLabelId() != null && detail.getLabelName() != null && detail.getBgColor() != null && detail.getTextColor() != null) {
-                LabelRequest label = new LabelRequest(detail.getLabelId(), detail.getLabelName(), detail.getBgColor(), detail.getTextColor());
-                if (!response.getLabels().contains(label)) {
-                    response.getLabels().add(label);
-                }
-            }
+    private static class FilterPlan {
+        private final String where;
+        private final String sql;
+        private final String countSql;
+        private final String authorFacetSql;
+        private final String milestoneFacetSql;
+        private final String assigneeFacetSql;
+        private final String labelFacetSql;
+        private final LongAdder executionCount = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+        private FilterPlan(String where, String sql, String countSql, String authorFacetSql,
+                           String milestoneFacetSql, String assigneeFacetSql, String labelFacetSql) {
+            this.where = where;
+            this.sql = sql;
+            this.countSql = countSql;
+            this.authorFacetSql = authorFacetSql;
+            this.milestoneFacetSql = milestoneFacetSql;
+            this.assigneeFacetSql = assigneeFacetSql;
+            this.labelFacetSql = labelFacetSql;
         }
 
-        List<IssueListResponse> issueListResponses = new ArrayList<>(issueMap.values());
-        Collections.reverse(issueListResponses); // 리스트를 역순으로 뒤집습니다.
-        return issueListResponses;
+        private void record(long elapsedNanos) {
+            executionCount.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+        }
+
+        private FilterShapeStatsResponse toStats(FilterShape shape) {
+            long executions = executionCount.sum();
+            return FilterShapeStatsResponse.builder()
+                    .shape(shape.describe())
+                    .executionCount(executions)
+                    .averageMillis(executions == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / executions)
+                    .maxMillis(maxNanos.get() / 1_000_000.0)
+                    .build();
+        }
     }
 }
@@ -0,0 +1,17 @@
+package com.CodeSquad.IssueTracker.filter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 필터 결과에 포함된 이슈를 라벨 id, 담당자, 작성자, 마일스톤 id 별로 센 값
+public record FacetCounts(
+        long totalCount,
+        Map<Long, Long> labels,
+        Map<String, Long> assignees,
+        Map<String, Long> authors,
+        Map<Long, Long> milestones)
+{
+    public static FacetCounts empty() {
+        return new FacetCounts(0, new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>());
+    }
+}
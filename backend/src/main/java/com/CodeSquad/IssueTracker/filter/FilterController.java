@@ -1,23 +1,35 @@
 package com.CodeSquad.IssueTracker.filter;
 
+import com.CodeSquad.IssueTracker.cache.DataVersion;
+import com.CodeSquad.IssueTracker.cache.dto.CacheStatsResponse;
+import com.CodeSquad.IssueTracker.filter.dto.FacetsResponse;
 import com.CodeSquad.IssueTracker.filter.dto.FilterListResponse;
+import com.CodeSquad.IssueTracker.filter.dto.FilterShapeStatsResponse;
+import com.CodeSquad.IssueTracker.filter.dto.FilteredIssuesResponse;
+import com.CodeSquad.IssueTracker.filter.query.FilterQuery;
 
 import com.CodeSquad.IssueTracker.issues.dto.IssueListResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
 public class FilterController {
     private final static long PAGE_LIMIT = 15;
+    public final static String TOTAL_COUNT_HEADER = "X-Total-Count";
+    public final static String TOTAL_EXACT_HEADER = "X-Total-Count-Exact";
+    public final static String HAS_MORE_HEADER = "X-Has-More";
 
     private final FilterService filterService;
+    private final DataVersion dataVersion;
 
-    public FilterController(FilterService filterService) {
+    public FilterController(FilterService filterService, DataVersion dataVersion) {
         this.filterService = filterService;
+        this.dataVersion = dataVersion;
     }
 
     @GetMapping("/filters")
@@ -26,6 +38,39 @@ public class FilterController {
         return ResponseEntity.ok(filterListResponse);
     }
 
+    @GetMapping("/filters/stats")
+    public ResponseEntity<List<FilterShapeStatsResponse>> getFilterShapeStats() {
+        return ResponseEntity.ok(filterService.getFilterShapeStats());
+    }
+
+    @GetMapping("/filters/query-cache/stats")
+    public ResponseEntity<CacheStatsResponse> getFilterQueryCacheStats() {
+        return ResponseEntity.ok(filterService.getFilterQueryCacheStats());
+    }
+
+    @GetMapping("/filters/result-cache/stats")
+    public ResponseEntity<CacheStatsResponse> getFilterResultCacheStats() {
+        return ResponseEntity.ok(filterService.getFilterResultCacheStats());
+    }
+
+    @GetMapping("/filters/issues/facets")
+    public ResponseEntity<FacetsResponse> getFacets(
+            @RequestParam(value = "is", required = false) String isClosed,
+            @RequestParam(value = "assignee", required = false) String assignee,
+            @RequestParam(value = "label", required = false) List<String> labelTitles,
+            @RequestParam(value = "milestone", required = false) String milestoneTitle,
+            @RequestParam(value = "author", required = false) String author,
+            @RequestParam(value = "q", required = false) String query,
+            WebRequest webRequest) {
+        String eTag = dataVersion.listETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        FilterQuery filterQuery = filterService.toFilterQuery(isClosed, assignee, labelTitles, milestoneTitle, author, query);
+        FacetsResponse facets = filterService.getFacets(filterQuery);
+        return ResponseEntity.ok().eTag(eTag).body(facets);
+    }
+
     @GetMapping("/filters/issues")
     public ResponseEntity<List<IssueListResponse>> getIssues(
             @RequestParam(value = "is", required = false) String isClosed,
@@ -33,8 +78,21 @@ public class FilterController {
             @RequestParam(value = "label", required = false) List<String> labelTitles,
             @RequestParam(value = "milestone", required = false) String milestoneTitle,
             @RequestParam(value = "author", required = false) String author,
-            @RequestParam(value = "page", defaultValue = "1") Long page){
-        List<IssueListResponse> filteredIssues = filterService.findFilteredIssues(isClosed, assignee, labelTitles, milestoneTitle, author, page, PAGE_LIMIT);
-        return ResponseEntity.ok(filteredIssues);
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "page", defaultValue = "1") Long page,
+            WebRequest webRequest){
+        String eTag = dataVersion.listETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        FilterQuery filterQuery = filterService.toFilterQuery(isClosed, assignee, labelTitles, milestoneTitle, author, query);
+        FilteredIssuesResponse filteredIssues = filterService.findFilteredIssues(filterQuery, page, PAGE_LIMIT);
+        // 기존 화면이 목록 본문을 그대로 쓰고 있으므로 페이지 정보는 헤더로 내려준다.
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .header(TOTAL_COUNT_HEADER, String.valueOf(filteredIssues.totalCount()))
+                .header(TOTAL_EXACT_HEADER, String.valueOf(filteredIssues.totalExact()))
+                .header(HAS_MORE_HEADER, String.valueOf(filteredIssues.hasMore()))
+                .body(filteredIssues.issues());
     }
 }
@@ -0,0 +1,7 @@
+package com.CodeSquad.IssueTracker.filter;
+
+// exact 가 false 이면 total 은 실제 개수의 하한이다.
+public record FilterCount(
+        long total,
+        boolean exact)
+{ }
@@ -0,0 +1,55 @@
+package com.CodeSquad.IssueTracker.filter;
+
+import com.CodeSquad.IssueTracker.cache.DataVersion;
+import com.CodeSquad.IssueTracker.filter.query.FilterQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 필터 조건별 전체 개수를 저장해서, 페이지를 넘길 때마다 다시 세지 않게 한다.
+// 목록 ETag 와 같은 세대에 묶으므로 304 로 재사용되는 응답의 개수가 목록보다 오래되지 않는다.
+@Component
+public class FilterCountCache {
+    private final DataVersion dataVersion;
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Map<FilterQuery, CachedCount> counts;
+
+    public FilterCountCache(DataVersion dataVersion,
+                            @Value("${filter.count-cache.ttl-ms:5000}") long ttlMillis,
+                            @Value("${filter.count-cache.max-size:256}") int maxSize) {
+        this.dataVersion = dataVersion;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.maxSize = maxSize;
+        this.counts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FilterQuery, CachedCount> eldest) {
+                return size() > FilterCountCache.this.maxSize;
+            }
+        };
+    }
+
+    public FilterCount get(FilterQuery query, Supplier<FilterCount> counter) {
+        // 세는 도중 쓰기가 일어나면 다음 요청에서 다시 세도록 세기 전의 세대와 시각을 기록한다.
+        long generation = dataVersion.current();
+        long now = System.nanoTime();
+        synchronized (counts) {
+            CachedCount cached = counts.get(query);
+            if (cached != null && cached.generation() == generation && now - cached.countedAt() < ttlNanos) {
+                return cached.count();
+            }
+        }
+
+        FilterCount count = counter.get();
+        synchronized (counts) {
+            counts.put(query, new CachedCount(generation, now, count));
+        }
+        return count;
+    }
+
+    private record CachedCount(long generation, long countedAt, FilterCount count) { }
+}
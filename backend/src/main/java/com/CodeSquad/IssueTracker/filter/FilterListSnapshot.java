@@ -0,0 +1,104 @@
+package com.CodeSquad.IssueTracker.filter;
+
+import com.CodeSquad.IssueTracker.cache.DataVersion;
+import com.CodeSquad.IssueTracker.filter.dto.FilterListResponse;
+import com.CodeSquad.IssueTracker.issues.IssueService;
+import com.CodeSquad.IssueTracker.issues.dto.IssueNumberResponse;
+import com.CodeSquad.IssueTracker.labels.LabelService;
+import com.CodeSquad.IssueTracker.labels.dto.LabelListResponse;
+import com.CodeSquad.IssueTracker.milestone.MilestoneService;
+import com.CodeSquad.IssueTracker.milestone.dto.MilestoneListResponse;
+import com.CodeSquad.IssueTracker.user.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+// GET /filters 응답을 통째로 들고 있다가, 필터 목록 세대가 바뀐 것을 본 요청이 백그라운드 재생성을 걸고
+// 자신은 마지막으로 완성된 스냅샷을 그대로 돌려받는다. 코멘트나 제목 변경은 세대를 올리지 않는다.
+@Slf4j
+@Component
+public class FilterListSnapshot {
+    private final IssueService issueService;
+    private final LabelService labelService;
+    private final MilestoneService milestoneService;
+    private final UserService userService;
+    private final DataVersion dataVersion;
+    private final ExecutorService fanOutExecutor;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    public FilterListSnapshot(IssueService issueService, LabelService labelService, MilestoneService milestoneService,
+                              UserService userService, DataVersion dataVersion, ExecutorService fanOutExecutor) {
+        this.issueService = issueService;
+        this.labelService = labelService;
+        this.milestoneService = milestoneService;
+        this.userService = userService;
+        this.dataVersion = dataVersion;
+        this.fanOutExecutor = fanOutExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuildAsync();
+    }
+
+    public FilterListResponse get() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            // 아직 한 번도 만들지 못했으면 기다려서 만든다.
+            return rebuild().response();
+        }
+        if (current.generation() != dataVersion.filterListGeneration()) {
+            rebuildAsync();
+        }
+        return current.response();
+    }
+
+    private void rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        CompletableFuture.runAsync(this::rebuild, fanOutExecutor)
+                .whenComplete((ignored, e) -> {
+                    rebuilding.set(false);
+                    if (e != null) {
+                        log.error("필터 목록 스냅샷 갱신 실패", e);
+                    }
+                });
+    }
+
+    // 조회 전의 세대를 기록해 두므로, 조회 도중 바뀐 내용은 다음 요청에서 다시 반영된다.
+    private Snapshot rebuild() {
+        long generation = dataVersion.filterListGeneration();
+        CompletableFuture<IssueNumberResponse> issueNumber =
+                CompletableFuture.supplyAsync(issueService::getIssueNumber, fanOutExecutor);
+        CompletableFuture<List<LabelListResponse>> labels =
+                CompletableFuture.supplyAsync(labelService::getLabelList, fanOutExecutor);
+        CompletableFuture<List<MilestoneListResponse>> milestones =
+                CompletableFuture.supplyAsync(milestoneService::getOpenMilestoneList, fanOutExecutor);
+        CompletableFuture<List<String>> userIds =
+                CompletableFuture.supplyAsync(userService::getAllUserIds, fanOutExecutor);
+
+        FilterListResponse response = FilterListResponse.builder()
+                .issueNumberResponse(issueNumber.join())
+                .labelListResponse(labels.join())
+                .milestoneListResponse(milestones.join())
+                .userListResponse(userIds.join())
+                .build();
+        Snapshot built = new Snapshot(generation, response);
+        // 더 최신 세대로 만든 스냅샷을 덮어쓰지 않는다.
+        snapshot.accumulateAndGet(built, (previous, next) ->
+                previous == null || previous.generation() <= next.generation() ? next : previous);
+        return built;
+    }
+
+    private record Snapshot(long generation, FilterListResponse response) { }
+}
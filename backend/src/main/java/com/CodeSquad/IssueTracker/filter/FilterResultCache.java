@@ -0,0 +1,143 @@
+package com.CodeSquad.IssueTracker.filter;
+
+import com.CodeSquad.IssueTracker.cache.DataVersion;
+import com.CodeSquad.IssueTracker.cache.dto.CacheStatsResponse;
+import com.CodeSquad.IssueTracker.filter.dto.FilteredIssuesResponse;
+import com.CodeSquad.IssueTracker.filter.query.FilterQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 같은 필터와 페이지의 결과를 짧은 시간 동안 공유한다.
+// 캐시에 없는 같은 요청이 동시에 들어오면 먼저 온 요청만 DB를 조회하고 나머지는 그 결과를 기다린다.
+@Component
+public class FilterResultCache {
+    private final DataVersion dataVersion;
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Map<ResultKey, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public FilterResultCache(DataVersion dataVersion,
+                             @Value("${filter.result-cache.ttl-ms:5000}") long ttlMillis,
+                             @Value("${filter.result-cache.max-size:512}") int maxSize) {
+        this.dataVersion = dataVersion;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.maxSize = maxSize;
+    }
+
+    public FilteredIssuesResponse get(FilterQuery query, long page, long size, Supplier<FilteredIssuesResponse> loader) {
+        ResultKey key = new ResultKey(query, page, size);
+        // 조회 도중 쓰기가 일어나면 다음 요청에서 다시 조회하도록 조회 전의 세대를 기록한다.
+        long generation = dataVersion.current();
+        long now = System.nanoTime();
+
+        Entry created = new Entry(generation, now, new CompletableFuture<>());
+        Entry entry = entries.compute(key, (k, existing) ->
+                (existing != null && existing.isValid(generation, now, ttlNanos)) ? existing : created);
+
+        if (entry != created) {
+            hitCount.incrementAndGet();
+            return await(entry.result());
+        }
+
+        missCount.incrementAndGet();
+        if (entries.size() > maxSize) {
+            evictExpired();
+            evictOldest();
+        }
+        try {
+            FilteredIssuesResponse result = loader.get();
+            created.result().complete(result);
+            return result;
+        } catch (Throwable e) {
+            // 실패한 결과는 공유하지 않는다. 기다리던 요청에는 같은 예외를 전달한다.
+            // Error 도 여기서 완료시키지 않으면 기다리던 요청이 영원히 멈춘다.
+            entries.remove(key, created);
+            created.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${filter.result-cache.ttl-ms:5000}")
+    public void evictExpired() {
+        long generation = dataVersion.current();
+        long now = System.nanoTime();
+        entries.entrySet().removeIf(e -> {
+            boolean expired = e.getValue().result().isDone() && !e.getValue().isValid(generation, now, ttlNanos);
+            if (expired) {
+                evictionCount.incrementAndGet();
+            }
+            return expired;
+        });
+    }
+
+    // 만료된 항목을 지워도 넘치면 오래된 항목부터 지운다. 진행 중인 조회를 지워도
+    // 이미 기다리는 요청은 결과를 받고, 이후 같은 요청은 새로 조회한다.
+    private void evictOldest() {
+        int excess = entries.size() - maxSize;
+        if (excess <= 0) {
+            return;
+        }
+        entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getValue().createdAt()))
+                .limit(excess)
+                .toList()
+                .forEach(e -> {
+                    if (entries.remove(e.getKey(), e.getValue())) {
+                        evictionCount.incrementAndGet();
+                    }
+                });
+    }
+
+    public CacheStatsResponse getStats() {
+        long hits = hitCount.get();
+        long misses = missCount.get();
+        return CacheStatsResponse.builder()
+                .size(entries.size())
+                .maxSize(maxSize)
+                .hitCount(hits)
+                .missCount(misses)
+                .evictionCount(evictionCount.get())
+                .hitRate(hits + misses == 0 ? 0 : (double) hits / (hits + misses))
+                .build();
+    }
+
+    private FilteredIssuesResponse await(CompletableFuture<FilteredIssuesResponse> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record ResultKey(FilterQuery query, long page, long size) { }
+
+    private record Entry(long generation, long createdAt, CompletableFuture<FilteredIssuesResponse> result) {
+        // 진행 중인 조회는 세대만 같으면 기다린다.
+        private boolean isValid(long currentGeneration, long now, long ttlNanos) {
+            if (generation != currentGeneration || result.isCompletedExceptionally()) {
+                return false;
+            }
+            return !result.isDone() || now - createdAt < ttlNanos;
+        }
+    }
+}
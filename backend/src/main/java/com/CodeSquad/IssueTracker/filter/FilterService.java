@@ -1,14 +1,35 @@
 package com.CodeSquad.IssueTracker.filter;
 
 import com.CodeSquad.IssueTracker.Exception.issue.InvalidIssueDataException;
+import com.CodeSquad.IssueTracker.cache.dto.CacheStatsResponse;
+import com.CodeSquad.IssueTracker.filter.dto.FacetCountResponse;
+import com.CodeSquad.IssueTracker.filter.dto.FacetsResponse;
 import com.CodeSquad.IssueTracker.filter.dto.FilterListResponse;
+import com.CodeSquad.IssueTracker.filter.dto.FilterShapeStatsResponse;
+import com.CodeSquad.IssueTracker.filter.dto.FilteredIssuesResponse;
+import com.CodeSquad.IssueTracker.filter.index.IssueBitmapIndex;
+import com.CodeSquad.IssueTracker.filter.query.FilterClause;
+import com.CodeSquad.IssueTracker.filter.query.FilterField;
+import com.CodeSquad.IssueTracker.filter.query.FilterQuery;
+import com.CodeSquad.IssueTracker.filter.query.FilterQueryCache;
+import com.CodeSquad.IssueTracker.guard.QueryCostGuard;
+import com.CodeSquad.IssueTracker.issues.IssueListLoader;
 import com.CodeSquad.IssueTracker.issues.IssueService;
-import com.CodeSquad.IssueTracker.issues.dto.IssueListResponse;
+import com.CodeSquad.IssueTracker.issues.dto.IssueNumberResponse;
+import com.CodeSquad.IssueTracker.issues.listview.IssueListView;
+import com.CodeSquad.IssueTracker.labels.Label;
 import com.CodeSquad.IssueTracker.labels.LabelService;
 import com.CodeSquad.IssueTracker.milestone.MilestoneService;
-import com.CodeSquad.IssueTracker.user.UserService;
+import com.CodeSquad.IssueTracker.search.IssueSearchIndex;
+import com.CodeSquad.IssueTracker.search.SearchHits;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import java.util.List;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class FilterService {
@@ -16,38 +37,197 @@ public class FilterService {
     private final IssueService issueService;
     private final LabelService labelService;
     private final MilestoneService milestoneService;
-    private final UserService userService;
+    private final IssueListLoader issueListLoader;
+    private final IssueBitmapIndex issueBitmapIndex;
+    private final FilterCountCache filterCountCache;
+    private final IssueSearchIndex issueSearchIndex;
+    private final FilterQueryCache filterQueryCache;
+    private final FilterListSnapshot filterListSnapshot;
+    private final FilterResultCache filterResultCache;
+    private final QueryCostGuard queryCostGuard;
+    private final long exactCountThreshold;
 
     public FilterService(IssueService issueService, LabelService labelService,
                          MilestoneService milestoneService, CustomFilterRepository customFilterRepository,
-                         UserService userService) {
+                         IssueListLoader issueListLoader,
+                         ObjectProvider<IssueBitmapIndex> issueBitmapIndex, FilterCountCache filterCountCache,
+                         IssueSearchIndex issueSearchIndex, FilterQueryCache filterQueryCache,
+                         FilterListSnapshot filterListSnapshot, FilterResultCache filterResultCache,
+                         QueryCostGuard queryCostGuard,
+                         @Value("${filter.count.exact-threshold:10000}") long exactCountThreshold) {
         this.issueService = issueService;
         this.labelService = labelService;
         this.milestoneService = milestoneService;
         this.customFilterRepository = customFilterRepository;
-        this.userService = userService;
+        this.issueListLoader = issueListLoader;
+        this.issueBitmapIndex = issueBitmapIndex.getIfAvailable();
+        this.filterCountCache = filterCountCache;
+        this.issueSearchIndex = issueSearchIndex;
+        this.filterQueryCache = filterQueryCache;
+        this.filterListSnapshot = filterListSnapshot;
+        this.filterResultCache = filterResultCache;
+        this.queryCostGuard = queryCostGuard;
+        this.exactCountThreshold = exactCountThreshold;
     }
 
     public FilterListResponse getFilterListResponse() {
-        return FilterListResponse.builder()
-                .issueNumberResponse(issueService.getIssueNumber())
-                .labelListResponse(labelService.getLabelList())
-                .milestoneListResponse(milestoneService.getOpenMilestoneList())
-                .userListResponse(userService.getAllUserIds())
+        return filterListSnapshot.get();
+    }
+
+    public List<FilterShapeStatsResponse> getFilterShapeStats() {
+        return customFilterRepository.getShapeStats();
+    }
+
+    // q 가 있으면 DSL로 읽고, is 파라미터는 q 에 is: 가 없을 때의 기본값으로만 쓴다.
+    public FilterQuery toFilterQuery(String isClosed, String assignee, List<String> labelTitles,
+                                     String milestoneTitle, String author, String query) {
+        if (query == null || query.isBlank()) {
+            return FilterQuery.fromParams(parseState(isClosed), assignee, labelTitles, milestoneTitle, author);
+        }
+        return filterQueryCache.get(query, isClosed != null && parseState(isClosed));
+    }
+
+    public CacheStatsResponse getFilterQueryCacheStats() {
+        return filterQueryCache.getStats();
+    }
+
+    public FilteredIssuesResponse findFilteredIssues(FilterQuery query, long page, long size) {
+        // 검색과 비트맵 색인은 메모리에서 페이지를 자르므로 SQL OFFSET 을 쓰는 경로만 막는다.
+        if (!query.hasText() && (issueBitmapIndex == null || !issueBitmapIndex.isReady())) {
+            queryCostGuard.checkOffset((page - 1) * size, "조건을 좁혀 다시 조회해 주세요.");
+        }
+        return filterResultCache.get(query, page, size, () -> loadFilteredIssues(query, page, size));
+    }
+
+    public CacheStatsResponse getFilterResultCacheStats() {
+        return filterResultCache.getStats();
+    }
+
+    private FilteredIssuesResponse loadFilteredIssues(FilterQuery query, long page, long size) {
+        if (query.hasText()) {
+            return findWithSearch(query, page, size);
+        }
+        if (issueBitmapIndex != null && issueBitmapIndex.isReady()) {
+            return findWithIndex(query, page, size);
+        }
+
+        List<IssueListView> issues = customFilterRepository.findIssues(query, size + 1, (page - 1) * size);
+        boolean hasMore = issues.size() > size;
+        if (hasMore) {
+            issues = issues.subList(0, (int) size);
+        }
+        FilterCount count = filterCountCache.get(query, () -> countIssues(query));
+        return FilteredIssuesResponse.builder()
+                .issues(issueListLoader.toResponses(issues))
+                .totalCount(count.total())
+                .totalExact(count.exact())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    public FacetsResponse getFacets(FilterQuery query) {
+        FacetCounts facets;
+        if (issueBitmapIndex != null && issueBitmapIndex.isReady()) {
+            facets = issueBitmapIndex.countFacets(matchBitmap(query));
+        } else {
+            facets = customFilterRepository.countFacets(query);
+        }
+
+        Map<Long, String> labelNames = labelService.getAllLabels().stream()
+                .collect(Collectors.toMap(Label::getLabelId, Label::getLabelName));
+        Map<Long, String> milestoneTitles = milestoneService.getMilestoneTitles();
+        return FacetsResponse.builder()
+                .totalCount(facets.totalCount())
+                .labels(toFacetCounts(facets.labels(), labelNames::get))
+                .assignees(toFacetCounts(facets.assignees(), Function.identity()))
+                .authors(toFacetCounts(facets.authors(), Function.identity()))
+                .milestones(toFacetCounts(facets.milestones(), milestoneTitles::get))
                 .build();
     }
 
-    public List<IssueListResponse> findFilteredIssues(String isClosed, String assignee,
-                                                      List<String> labelTitles, String milestoneTitle,
-                                                      String author, Long page, Long offset){
-        boolean closed = false;
-        if(isClosed.equals("close")){
-            closed = true;
-        }else if(isClosed.equals("open")){
-            closed = false;
-        }else{
-            throw new InvalidIssueDataException("데이터 형식에 맞지 않습니다.");
+    // 이름을 찾을 수 없는 값(그 사이 삭제된 라벨 등)은 빼고, 많은 순으로 정렬한다.
+    private <K> List<FacetCountResponse> toFacetCounts(Map<K, Long> counts, Function<K, String> naming) {
+        return counts.entrySet().stream()
+                .map(entry -> new FacetCountResponse(naming.apply(entry.getKey()), entry.getValue()))
+                .filter(facet -> facet.value() != null)
+                .sorted(Comparator.comparingLong(FacetCountResponse::count).reversed()
+                        .thenComparing(FacetCountResponse::value))
+                .toList();
+    }
+
+    private boolean parseState(String isClosed) {
+        if ("close".equals(isClosed)) {
+            return true;
+        } else if ("open".equals(isClosed)) {
+            return false;
+        }
+        throw new InvalidIssueDataException("데이터 형식에 맞지 않습니다.");
+    }
+
+    // 검색 점수 순서를 유지한 채 필터 조건에 맞지 않는 이슈를 빼고 페이지를 자른다.
+    private FilteredIssuesResponse findWithSearch(FilterQuery query, long page, long size) {
+        SearchHits hits = issueSearchIndex.search(query.text());
+
+        List<Long> matchedIds;
+        if (issueBitmapIndex != null && issueBitmapIndex.isReady()) {
+            RoaringBitmap matched = matchBitmap(query);
+            matchedIds = hits.issueIds().stream()
+                    .filter(issueId -> matched.contains(Math.toIntExact(issueId)))
+                    .toList();
+        } else {
+            Set<Long> filtered = customFilterRepository.filterIssueIds(query, hits.issueIds());
+            matchedIds = hits.issueIds().stream()
+                    .filter(filtered::contains)
+                    .toList();
+        }
+
+        int from = (int) Math.min((page - 1) * size, matchedIds.size());
+        int to = (int) Math.min(from + size, matchedIds.size());
+        return FilteredIssuesResponse.builder()
+                .issues(issueListLoader.load(matchedIds.subList(from, to)))
+                .totalCount(matchedIds.size())
+                .totalExact(!hits.truncated())
+                .hasMore(to < matchedIds.size() || hits.truncated())
+                .build();
+    }
+
+    private FilteredIssuesResponse findWithIndex(FilterQuery query, long page, long size) {
+        RoaringBitmap matched = matchBitmap(query);
+        long total = matched.getLongCardinality();
+        return FilteredIssuesResponse.builder()
+                .issues(issueListLoader.load(issueBitmapIndex.page(matched, page, size)))
+                .totalCount(total)
+                .totalExact(true)
+                .hasMore(page * size < total)
+                .build();
+    }
+
+    // 조건이 상태뿐이면 이슈 카운터를 그대로 쓰고, 그 외에는 임계값까지만 세어 그 이상은 근사값으로 표시한다.
+    private FilterCount countIssues(FilterQuery query) {
+        if (query.shape().isStateOnly()) {
+            IssueNumberResponse issueNumber = issueService.getIssueNumber();
+            return new FilterCount(query.isClosed() ? issueNumber.closeIssueCount() : issueNumber.openIssueCount(), true);
+        }
+        long counted = customFilterRepository.countIssues(query, exactCountThreshold + 1);
+        if (counted > exactCountThreshold) {
+            return new FilterCount(exactCountThreshold, false);
+        }
+        return new FilterCount(counted, true);
+    }
+
+    // 비트맵은 id로 색인되어 있으므로 질의에 나온 라벨 이름과 마일스톤 제목을 id로 바꿔서 넘긴다.
+    private RoaringBitmap matchBitmap(FilterQuery query) {
+        Map<String, Long> labelIds = new HashMap<>();
+        Map<String, Long> milestoneIds = new HashMap<>();
+        for (FilterClause clause : query.clauses()) {
+            for (String value : clause.values()) {
+                if (clause.field() == FilterField.LABEL) {
+                    labelService.findLabelIdByName(value).ifPresent(labelId -> labelIds.put(value, labelId));
+                } else if (clause.field() == FilterField.MILESTONE) {
+                    milestoneService.findMilestoneIdByTitle(value).ifPresent(milestoneId -> milestoneIds.put(value, milestoneId));
+                }
+            }
         }
-        return customFilterRepository.findFilteredIssues(closed, assignee, labelTitles, milestoneTitle, author, page, offset);
+        return issueBitmapIndex.match(query, labelIds, milestoneIds);
     }
 }
@@ -0,0 +1,31 @@
+package com.CodeSquad.IssueTracker.filter;
+
+import com.CodeSquad.IssueTracker.filter.query.FilterField;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+// 필터 값은 빼고 어떤 조건이 어떤 순서로 들어왔는지만 남긴 형태. 같은 형태의 필터는 같은 SQL을 쓴다.
+public record FilterShape(
+        List<ClauseShape> clauses)
+{
+    public boolean isStateOnly() {
+        return clauses.isEmpty();
+    }
+
+    public String describe() {
+        StringJoiner joiner = new StringJoiner("+");
+        joiner.add("state");
+        for (ClauseShape clause : clauses) {
+            String name = (clause.negated() ? "-" : "") + clause.field().getKey();
+            joiner.add(clause.valueCount() == 0 ? "no:" + name : name + (clause.valueCount() > 1 ? "*" + clause.valueCount() : ""));
+        }
+        return joiner.toString();
+    }
+
+    public record ClauseShape(
+            FilterField field,
+            boolean negated,
+            int valueCount)
+    { }
+}
@@ -0,0 +1,6 @@
+package com.CodeSquad.IssueTracker.filter.dto;
+
+public record FacetCountResponse(
+        String value,
+        long count)
+{ }
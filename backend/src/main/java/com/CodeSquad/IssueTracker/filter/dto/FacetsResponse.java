@@ -0,0 +1,14 @@
+package com.CodeSquad.IssueTracker.filter.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record FacetsResponse(
+        long totalCount,
+        List<FacetCountResponse> labels,
+        List<FacetCountResponse> assignees,
+        List<FacetCountResponse> authors,
+        List<FacetCountResponse> milestones)
+{ }
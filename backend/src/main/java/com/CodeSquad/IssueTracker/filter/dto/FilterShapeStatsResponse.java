@@ -0,0 +1,11 @@
+package com.CodeSquad.IssueTracker.filter.dto;
+
+import lombok.Builder;
+
+@Builder
+public record FilterShapeStatsResponse(
+        String shape,
+        long executionCount,
+        double averageMillis,
+        double maxMillis)
+{ }
@@ -0,0 +1,14 @@
+package com.CodeSquad.IssueTracker.filter.dto;
+
+import com.CodeSquad.IssueTracker.issues.dto.IssueListResponse;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record FilteredIssuesResponse(
+        List<IssueListResponse> issues,
+        long totalCount,
+        boolean totalExact,
+        boolean hasMore)
+{ }
@@ -0,0 +1,310 @@
+package com.CodeSquad.IssueTracker.filter.index;
+
+import com.CodeSquad.IssueTracker.cache.event.CatalogChangedEvent;
+import com.CodeSquad.IssueTracker.filter.FacetCounts;
+import com.CodeSquad.IssueTracker.filter.query.FilterClause;
+import com.CodeSquad.IssueTracker.filter.query.FilterQuery;
+import com.CodeSquad.IssueTracker.issues.event.IssueChangedEvent;
+import com.CodeSquad.IssueTracker.issues.listview.IssueListView;
+import com.CodeSquad.IssueTracker.issues.listview.IssueListViewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+// issue_list_view를 라벨, 담당자, 작성자, 마일스톤, 열림/닫힘 별 이슈 id 비트맵으로 들고 있다가
+// 필터 조건을 비트맵 AND 로 계산한다. DB는 페이지에 들어갈 id만 읽으면 된다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "filter.bitmap-index.enabled", havingValue = "true")
+public class IssueBitmapIndex {
+    private static final long LOAD_CHUNK_SIZE = 10_000;
+
+    private final IssueListViewRepository issueListViewRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final RoaringBitmap openIssues = new RoaringBitmap();
+    private final RoaringBitmap closedIssues = new RoaringBitmap();
+    private final Map<Long, RoaringBitmap> byLabel = new HashMap<>();
+    private final Map<String, RoaringBitmap> byAssignee = new HashMap<>();
+    private final Map<String, RoaringBitmap> byAuthor = new HashMap<>();
+    private final Map<Long, RoaringBitmap> byMilestone = new HashMap<>();
+    // 갱신할 때 이전 값의 비트를 지우기 위해 이슈별로 색인한 값을 기억한다.
+    private final Map<Integer, IndexedIssue> indexedIssues = new HashMap<>();
+
+    private volatile boolean ready = false;
+    // 재동기화 중에 이벤트로 반영된 이슈. 재동기화가 읽은 예전 값으로 덮지 않는다.
+    private volatile boolean rebuilding = false;
+    private final Set<Long> changedWhileRebuilding = ConcurrentHashMap.newKeySet();
+
+    public IssueBitmapIndex(IssueListViewRepository issueListViewRepository) {
+        this.issueListViewRepository = issueListViewRepository;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        int loaded = rebuild();
+        ready = true;
+        log.info("이슈 비트맵 인덱스 적재 완료: {}건", loaded);
+    }
+
+    // 이벤트를 놓치거나 순서가 뒤바뀐 변경이 남지 않도록 주기적으로 issue_list_view 전체와 다시 맞춘다.
+    @Scheduled(fixedDelayString = "${filter.bitmap-index.rebuild-interval-ms:600000}",
+            initialDelayString = "${filter.bitmap-index.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        int loaded = rebuild();
+        log.info("이슈 비트맵 인덱스 재동기화 완료: {}건", loaded);
+    }
+
+    // 청크는 잠금 없이 읽고 반영할 때만 write lock 을 잡으므로 그동안에도 조회와 이벤트 반영이 계속된다.
+    // 읽은 뒤 이벤트로 바뀐 이슈는 이벤트 쪽 값이 더 새것이므로 덮어쓰지도, 지우지도 않는다.
+    private synchronized int rebuild() {
+        changedWhileRebuilding.clear();
+        rebuilding = true;
+        try {
+            RoaringBitmap seen = new RoaringBitmap();
+            long after = 0;
+            int loaded = 0;
+            while (true) {
+                List<IssueListView> chunk = issueListViewRepository.findChunkAfter(after, LOAD_CHUNK_SIZE);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                lock.writeLock().lock();
+                try {
+                    for (IssueListView row : chunk) {
+                        seen.add(toIndexId(row.getIssueId()));
+                        if (!changedWhileRebuilding.contains(row.getIssueId())) {
+                            index(row);
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                loaded += chunk.size();
+                after = chunk.get(chunk.size() - 1).getIssueId();
+            }
+
+            lock.writeLock().lock();
+            try {
+                List<Integer> removed = indexedIssues.keySet().stream()
+                        .filter(issueId -> !seen.contains(issueId))
+                        .filter(issueId -> !changedWhileRebuilding.contains((long) issueId))
+                        .toList();
+                removed.forEach(this::unindex);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return loaded;
+        } finally {
+            rebuilding = false;
+            changedWhileRebuilding.clear();
+        }
+    }
+
+    // 커밋된 뒤에 issue_list_view 에서 다시 읽어 색인한다. 행이 없으면 색인에서 뺀다.
+    // DB 조회는 잠금 밖에서 하고, 읽은 행을 반영할 때만 write lock 을 잡는다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        if (rebuilding) {
+            changedWhileRebuilding.addAll(event.issueIds());
+        }
+        List<IssueListView> rows = issueListViewRepository.findByIds(new ArrayList<>(event.issueIds()));
+        lock.writeLock().lock();
+        try {
+            Set<Long> found = new HashSet<>();
+            for (IssueListView row : rows) {
+                index(row);
+                found.add(row.getIssueId());
+            }
+            event.issueIds().stream()
+                    .filter(issueId -> !found.contains(issueId))
+                    .forEach(issueId -> unindex(toIndexId(issueId)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 라벨, 마일스톤이 지워지면 그 posting 을 통째로 뺀다. 남겨 두면 no:label, no:milestone 이
+    // 더 이상 없는 값을 가진 이슈까지 빼 버린다. 이름 변경은 id 기준인 색인에 영향이 없다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            switch (event.kind()) {
+                case LABEL_DELETED -> dropPosting(byLabel, event.targetId(), issue -> new IndexedIssue(
+                        issue.isClosed(), issue.author(), issue.milestoneId(), issue.assigneeIds(),
+                        issue.labelIds().stream().filter(labelId -> !labelId.equals(event.targetId())).toList()));
+                case MILESTONE_DELETED -> dropPosting(byMilestone, event.targetId(), issue -> new IndexedIssue(
+                        issue.isClosed(), issue.author(), null, issue.assigneeIds(), issue.labelIds()));
+                case LABEL_RENAMED, MILESTONE_RENAMED -> { }
+            }
+            log.info("이슈 비트맵 인덱스 갱신: {}", event.reason());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void dropPosting(Map<Long, RoaringBitmap> postings, Long key, Function<IndexedIssue, IndexedIssue> strip) {
+        RoaringBitmap bitmap = postings.remove(key);
+        if (bitmap == null) {
+            return;
+        }
+        bitmap.forEach((int issueId) -> indexedIssues.computeIfPresent(issueId, (id, issue) -> strip.apply(issue)));
+    }
+
+    // 라벨 이름, 마일스톤 제목은 호출하는 쪽에서 id로 바꿔서 넘긴다. 찾을 수 없는 이름은 어떤 이슈와도 맞지 않는다.
+    public RoaringBitmap match(FilterQuery query, Map<String, Long> labelIds, Map<String, Long> milestoneIds) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = (query.isClosed() ? closedIssues : openIssues).clone();
+            for (FilterClause clause : query.clauses()) {
+                RoaringBitmap clauseBitmap = switch (clause.field()) {
+                    case ASSIGNEE -> union(byAssignee, clause, Function.identity());
+                    case AUTHOR -> union(byAuthor, clause, Function.identity());
+                    case LABEL -> union(byLabel, clause, labelIds::get);
+                    case MILESTONE -> union(byMilestone, clause, milestoneIds::get);
+                };
+                // no:label 은 라벨이 하나라도 있는 이슈를 빼는 것과 같다.
+                boolean exclude = clause.isEmptyCheck() != clause.negated();
+                if (exclude) {
+                    result.andNot(clauseBitmap);
+                } else {
+                    result.and(clauseBitmap);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 값이 없는 조건이면 해당 필드에 값이 있는 모든 이슈를 합친다.
+    private <K> RoaringBitmap union(Map<K, RoaringBitmap> postings, FilterClause clause, Function<String, K> toKey) {
+        if (clause.isEmptyCheck()) {
+            return FastAggregation.or(postings.values().iterator());
+        }
+        RoaringBitmap union = new RoaringBitmap();
+        for (String value : clause.values()) {
+            K key = toKey.apply(value);
+            if (key != null && postings.containsKey(key)) {
+                union.or(postings.get(key));
+            }
+        }
+        return union;
+    }
+
+    // 각 값의 비트맵과 결과 비트맵의 교집합 크기만 구하므로 이슈를 하나씩 훑지 않는다.
+    public FacetCounts countFacets(RoaringBitmap matched) {
+        lock.readLock().lock();
+        try {
+            return new FacetCounts(matched.getLongCardinality(),
+                    intersections(byLabel, matched),
+                    intersections(byAssignee, matched),
+                    intersections(byAuthor, matched),
+                    intersections(byMilestone, matched));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private <K> Map<K, Long> intersections(Map<K, RoaringBitmap> postings, RoaringBitmap matched) {
+        Map<K, Long> counts = new HashMap<>();
+        postings.forEach((key, bitmap) -> {
+            long count = RoaringBitmap.andCardinality(bitmap, matched);
+            if (count > 0) {
+                counts.put(key, count);
+            }
+        });
+        return counts;
+    }
+
+    // 큰 id 부터 offset 만큼 건너뛰고 size 개를 꺼낸다.
+    public List<Long> page(RoaringBitmap matched, long page, long size) {
+        long offset = (page - 1) * size;
+        List<Long> issueIds = new ArrayList<>();
+        IntIterator iterator = matched.getReverseIntIterator();
+        for (long skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+            iterator.next();
+        }
+        while (issueIds.size() < size && iterator.hasNext()) {
+            issueIds.add((long) iterator.next());
+        }
+        return issueIds;
+    }
+
+    private void index(IssueListView issue) {
+        int issueId = toIndexId(issue.getIssueId());
+        unindex(issueId);
+
+        IndexedIssue indexed = new IndexedIssue(issue.getIsClosed(), issue.getAuthor(), issue.getMilestoneId(),
+                List.copyOf(issue.getAssigneeIds()), List.copyOf(issue.getLabelIds()));
+        (indexed.isClosed() ? closedIssues : openIssues).add(issueId);
+        add(byAuthor, indexed.author(), issueId);
+        add(byMilestone, indexed.milestoneId(), issueId);
+        indexed.assigneeIds().forEach(assignee -> add(byAssignee, assignee, issueId));
+        indexed.labelIds().forEach(labelId -> add(byLabel, labelId, issueId));
+        indexedIssues.put(issueId, indexed);
+    }
+
+    private void unindex(int issueId) {
+        IndexedIssue previous = indexedIssues.remove(issueId);
+        if (previous == null) {
+            return;
+        }
+        (previous.isClosed() ? closedIssues : openIssues).remove(issueId);
+        remove(byAuthor, previous.author(), issueId);
+        remove(byMilestone, previous.milestoneId(), issueId);
+        previous.assigneeIds().forEach(assignee -> remove(byAssignee, assignee, issueId));
+        previous.labelIds().forEach(labelId -> remove(byLabel, labelId, issueId));
+    }
+
+    private <K> void add(Map<K, RoaringBitmap> postings, K key, int issueId) {
+        if (key == null) {
+            return;
+        }
+        postings.computeIfAbsent(key, k -> new RoaringBitmap()).add(issueId);
+    }
+
+    private <K> void remove(Map<K, RoaringBitmap> postings, K key, int issueId) {
+        if (key == null) {
+            return;
+        }
+        RoaringBitmap bitmap = postings.get(key);
+        if (bitmap == null) {
+            return;
+        }
+        bitmap.remove(issueId);
+        if (bitmap.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private int toIndexId(Long issueId) {
+        return Math.toIntExact(issueId);
+    }
+
+    private record IndexedIssue(
+            boolean isClosed,
+            String author,
+            Long milestoneId,
+            List<String> assigneeIds,
+            List<Long> labelIds)
+    { }
+}
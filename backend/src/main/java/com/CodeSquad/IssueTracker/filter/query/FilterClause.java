@@ -0,0 +1,30 @@
+package com.CodeSquad.IssueTracker.filter.query;
+
+import java.util.List;
+
+// values 중 하나라도 맞으면 참(OR). values 가 비어 있으면 "값이 없음"(no:label 등)을 뜻한다.
+public record FilterClause(
+        FilterField field,
+        boolean negated,
+        List<String> values)
+{
+    public FilterClause {
+        values = values.stream().distinct().sorted().toList();
+    }
+
+    public boolean isEmptyCheck() {
+        return values.isEmpty();
+    }
+
+    public String toQueryString() {
+        String prefix = negated ? "-" : "";
+        if (isEmptyCheck()) {
+            return prefix + "no:" + field.getKey();
+        }
+        return prefix + field.getKey() + ":" + String.join(",", values.stream().map(FilterClause::quote).toList());
+    }
+
+    private static String quote(String value) {
+        return (value.contains(" ") || value.contains(",")) ? "\"" + value + "\"" : value;
+    }
+}
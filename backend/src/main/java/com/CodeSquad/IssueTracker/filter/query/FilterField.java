@@ -0,0 +1,27 @@
+package com.CodeSquad.IssueTracker.filter.query;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum FilterField {
+    ASSIGNEE("assignee"),
+    LABEL("label"),
+    MILESTONE("milestone"),
+    AUTHOR("author");
+
+    private final String key;
+
+    FilterField(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static Optional<FilterField> fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(field -> field.key.equals(key))
+                .findFirst();
+    }
+}
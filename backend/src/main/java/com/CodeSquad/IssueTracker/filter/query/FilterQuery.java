@@ -0,0 +1,73 @@
+package com.CodeSquad.IssueTracker.filter.query;
+
+import com.CodeSquad.IssueTracker.Exception.filter.InvalidFilterQueryException;
+import com.CodeSquad.IssueTracker.filter.FilterShape;
+
+import java.util.*;
+
+// 파싱하고 정규화한 필터. 조건(clauses)끼리는 AND 이고, text 는 전문 검색어다.
+public record FilterQuery(
+        boolean isClosed,
+        List<FilterClause> clauses,
+        String text)
+{
+    public static final int MAX_CLAUSES = 20;
+    public static final int MAX_VALUES_PER_CLAUSE = 20;
+
+    private static final Comparator<FilterClause> CLAUSE_ORDER = Comparator
+            .comparing(FilterClause::field)
+            .thenComparing(FilterClause::negated)
+            .thenComparing(clause -> String.join(",", clause.values()));
+
+    // 조건과 값 수가 많으면 SQL 이 길어지고 형태(FilterShape)도 끝없이 늘어나므로 받지 않는다.
+    public FilterQuery {
+        clauses = clauses.stream().distinct().sorted(CLAUSE_ORDER).toList();
+        if (clauses.size() > MAX_CLAUSES) {
+            throw new InvalidFilterQueryException("조건은 " + MAX_CLAUSES + "개까지 쓸 수 있습니다.");
+        }
+        if (clauses.stream().anyMatch(clause -> clause.values().size() > MAX_VALUES_PER_CLAUSE)) {
+            throw new InvalidFilterQueryException("조건 하나에는 값을 " + MAX_VALUES_PER_CLAUSE + "개까지 쓸 수 있습니다.");
+        }
+        text = (text == null || text.isBlank()) ? null : text.trim();
+    }
+
+    // 기존 is/assignee/label/milestone/author 파라미터를 같은 형태로 바꾼다. 라벨은 모두 만족해야 한다.
+    public static FilterQuery fromParams(boolean isClosed, String assignee, List<String> labelTitles,
+                                         String milestoneTitle, String author) {
+        List<FilterClause> clauses = new ArrayList<>();
+        addParam(clauses, FilterField.ASSIGNEE, assignee);
+        addParam(clauses, FilterField.MILESTONE, milestoneTitle);
+        addParam(clauses, FilterField.AUTHOR, author);
+        if (labelTitles != null) {
+            labelTitles.forEach(label -> addParam(clauses, FilterField.LABEL, label));
+        }
+        return new FilterQuery(isClosed, clauses, null);
+    }
+
+    public boolean hasText() {
+        return text != null;
+    }
+
+    public FilterShape shape() {
+        return new FilterShape(clauses.stream()
+                .map(clause -> new FilterShape.ClauseShape(clause.field(), clause.negated(), clause.values().size()))
+                .toList());
+    }
+
+    // 같은 필터는 항상 같은 문자열이 된다.
+    public String toQueryString() {
+        StringJoiner joiner = new StringJoiner(" ");
+        joiner.add(isClosed ? "is:closed" : "is:open");
+        clauses.forEach(clause -> joiner.add(clause.toQueryString()));
+        if (text != null) {
+            joiner.add(text);
+        }
+        return joiner.toString();
+    }
+
+    private static void addParam(List<FilterClause> clauses, FilterField field, String value) {
+        if (value != null && !value.isEmpty()) {
+            clauses.add(new FilterClause(field, false, List.of(value)));
+        }
+    }
+}
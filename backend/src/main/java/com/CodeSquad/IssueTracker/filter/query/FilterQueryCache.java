@@ -0,0 +1,72 @@
+package com.CodeSquad.IssueTracker.filter.query;
+
+import com.CodeSquad.IssueTracker.cache.dto.CacheStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 같은 질의 문자열이 반복해서 들어오면(대시보드 등) 파싱과 정규화를 건너뛴다.
+// 정규화된 질의는 형태(FilterShape)별로 컴파일된 SQL을 함께 쓴다.
+@Component
+public class FilterQueryCache {
+    private final int maxSize;
+    private final Map<QueryKey, FilterQuery> queries;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public FilterQueryCache(@Value("${filter.query-cache.max-size:256}") int maxSize) {
+        this.maxSize = maxSize;
+        this.queries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<QueryKey, FilterQuery> eldest) {
+                if (size() > FilterQueryCache.this.maxSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public FilterQuery get(String query, boolean defaultClosed) {
+        QueryKey key = new QueryKey(query.trim(), defaultClosed);
+        synchronized (queries) {
+            FilterQuery cached = queries.get(key);
+            if (cached != null) {
+                hitCount.incrementAndGet();
+                return cached;
+            }
+        }
+
+        missCount.incrementAndGet();
+        FilterQuery parsed = FilterQueryParser.parse(key.query(), defaultClosed);
+        synchronized (queries) {
+            queries.put(key, parsed);
+        }
+        return parsed;
+    }
+
+    public CacheStatsResponse getStats() {
+        long hits = hitCount.get();
+        long misses = missCount.get();
+        int size;
+        synchronized (queries) {
+            size = queries.size();
+        }
+        return CacheStatsResponse.builder()
+                .size(size)
+                .maxSize(maxSize)
+                .hitCount(hits)
+                .missCount(misses)
+                .evictionCount(evictionCount.get())
+                .hitRate(hits + misses == 0 ? 0 : (double) hits / (hits + misses))
+                .build();
+    }
+
+    private record QueryKey(String query, boolean defaultClosed) { }
+}
@@ -0,0 +1,148 @@
+package com.CodeSquad.IssueTracker.filter.query;
+
+import com.CodeSquad.IssueTracker.Exception.filter.InvalidFilterQueryException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+// is:open label:bug label:"p 1" -author:x milestone:"v2" no:assignee label:a,b 처럼
+// 공백으로 구분한 조건을 읽는다. 알 수 없는 키나 키가 없는 단어는 전문 검색어로 모은다.
+// 조건 하나가 SQL 조건 하나가 되므로 질의 길이, 조건 수, 조건별 값 수를 제한한다.
+public class FilterQueryParser {
+    public static final int MAX_QUERY_LENGTH = 1_000;
+
+    private FilterQueryParser() {
+    }
+
+    public static FilterQuery parse(String query, boolean defaultClosed) {
+        if (query != null && query.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidFilterQueryException("질의는 " + MAX_QUERY_LENGTH + "자 이하여야 합니다.");
+        }
+        boolean isClosed = defaultClosed;
+        List<FilterClause> clauses = new ArrayList<>();
+        StringJoiner text = new StringJoiner(" ");
+
+        for (String token : tokenize(query == null ? "" : query)) {
+            boolean negated = token.startsWith("-") && token.length() > 1;
+            String body = negated ? token.substring(1) : token;
+            int colon = qualifierEnd(body);
+            if (colon < 0) {
+                text.add(unquote(token));
+                continue;
+            }
+
+            String key = body.substring(0, colon);
+            String value = body.substring(colon + 1);
+            if (key.equals("is")) {
+                isClosed = parseState(value, negated);
+                continue;
+            }
+            if (key.equals("no")) {
+                FilterField field = FilterField.fromKey(value)
+                        .filter(candidate -> candidate != FilterField.AUTHOR)
+                        .orElseThrow(() -> new InvalidFilterQueryException("no: 뒤에는 assignee, label, milestone 만 쓸 수 있습니다: " + value));
+                clauses.add(new FilterClause(field, negated, List.of()));
+                continue;
+            }
+
+            Optional<FilterField> field = FilterField.fromKey(key);
+            if (field.isEmpty()) {
+                text.add(unquote(token));
+                continue;
+            }
+            List<String> values = splitValues(value);
+            if (values.isEmpty()) {
+                throw new InvalidFilterQueryException("값이 비어 있습니다: " + token);
+            }
+            clauses.add(new FilterClause(field.get(), negated, values));
+        }
+
+        return new FilterQuery(isClosed, clauses, text.toString());
+    }
+
+    private static boolean parseState(String value, boolean negated) {
+        boolean closed = switch (value) {
+            case "open" -> false;
+            case "closed", "close" -> true;
+            default -> throw new InvalidFilterQueryException("is: 뒤에는 open 또는 closed 만 쓸 수 있습니다: " + value);
+        };
+        return negated != closed;
+    }
+
+    // 따옴표 밖의 공백으로 나눈다.
+    private static List<String> tokenize(String query) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (char c : query.toCharArray()) {
+            if (c == '"') {
+                quoted = !quoted;
+            }
+            if (Character.isWhitespace(c) && !quoted) {
+                if (!current.isEmpty()) {
+                    tokens.add(current.toString());
+                    current.setLength(0);
+                }
+                continue;
+            }
+            current.append(c);
+        }
+        if (quoted) {
+            throw new InvalidFilterQueryException("따옴표가 닫히지 않았습니다: " + query);
+        }
+        if (!current.isEmpty()) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    // 따옴표 안의 콜론은 키 구분자로 보지 않는다.
+    private static int qualifierEnd(String body) {
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (c == '"') {
+                return -1;
+            }
+            if (c == ':') {
+                return i == 0 ? -1 : i;
+            }
+        }
+        return -1;
+    }
+
+    // 따옴표 밖의 쉼표로 나눈다. label:a,"b c" -> [a, b c]
+    private static List<String> splitValues(String value) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (char c : value.toCharArray()) {
+            if (c == '"') {
+                quoted = !quoted;
+                continue;
+            }
+            if (c == ',' && !quoted) {
+                addValue(values, current);
+                if (values.size() > FilterQuery.MAX_VALUES_PER_CLAUSE) {
+                    throw new InvalidFilterQueryException("조건 하나에는 값을 " + FilterQuery.MAX_VALUES_PER_CLAUSE + "개까지 쓸 수 있습니다.");
+                }
+                continue;
+            }
+            current.append(c);
+        }
+        addValue(values, current);
+        return values;
+    }
+
+    private static void addValue(List<String> values, StringBuilder current) {
+        if (!current.isEmpty()) {
+            values.add(current.toString());
+        }
+        current.setLength(0);
+    }
+
+    private static String unquote(String token) {
+        return token.replace("\"", "");
+    }
+}
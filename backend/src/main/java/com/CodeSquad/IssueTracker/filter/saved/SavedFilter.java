@@ -0,0 +1,24 @@
+package com.CodeSquad.IssueTracker.filter.saved;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@Table("saved_filters")
+public class SavedFilter {
+    @Id
+    private Long savedFilterId;
+
+    private String name;
+
+    private String owner;
+
+    private String query;
+
+    private LocalDateTime createdAt;
+}
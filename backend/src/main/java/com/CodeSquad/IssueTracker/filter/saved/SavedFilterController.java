@@ -0,0 +1,53 @@
+package com.CodeSquad.IssueTracker.filter.saved;
+
+import com.CodeSquad.IssueTracker.filter.FilterController;
+import com.CodeSquad.IssueTracker.filter.dto.FilteredIssuesResponse;
+import com.CodeSquad.IssueTracker.filter.saved.dto.SavedFilterRequest;
+import com.CodeSquad.IssueTracker.filter.saved.dto.SavedFilterResponse;
+import com.CodeSquad.IssueTracker.issues.dto.IssueListResponse;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/filters/saved")
+public class SavedFilterController {
+    private final static long PAGE_LIMIT = 15;
+
+    private final SavedFilterService savedFilterService;
+
+    public SavedFilterController(SavedFilterService savedFilterService) {
+        this.savedFilterService = savedFilterService;
+    }
+
+    @PostMapping
+    public ResponseEntity<SavedFilterResponse> createSavedFilter(@Valid @RequestBody SavedFilterRequest request) {
+        SavedFilterResponse savedFilter = savedFilterService.createSavedFilter(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(savedFilter);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<SavedFilterResponse>> getSavedFilters(@RequestParam("owner") String owner) {
+        return ResponseEntity.ok(savedFilterService.getSavedFilters(owner));
+    }
+
+    @GetMapping("/{savedFilterId}/issues")
+    public ResponseEntity<List<IssueListResponse>> getIssues(@PathVariable("savedFilterId") Long savedFilterId,
+                                                             @RequestParam(value = "page", defaultValue = "1") Long page) {
+        FilteredIssuesResponse issues = savedFilterService.findIssues(savedFilterId, page, PAGE_LIMIT);
+        return ResponseEntity.ok()
+                .header(FilterController.TOTAL_COUNT_HEADER, String.valueOf(issues.totalCount()))
+                .header(FilterController.TOTAL_EXACT_HEADER, String.valueOf(issues.totalExact()))
+                .header(FilterController.HAS_MORE_HEADER, String.valueOf(issues.hasMore()))
+                .body(issues.issues());
+    }
+
+    @DeleteMapping("/{savedFilterId}")
+    public ResponseEntity<Void> deleteSavedFilter(@PathVariable("savedFilterId") Long savedFilterId) {
+        savedFilterService.deleteSavedFilter(savedFilterId);
+        return new ResponseEntity<>(HttpStatus.OK);
+    }
+}
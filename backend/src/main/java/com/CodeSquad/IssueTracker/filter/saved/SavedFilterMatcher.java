@@ -0,0 +1,42 @@
+package com.CodeSquad.IssueTracker.filter.saved;
+
+import com.CodeSquad.IssueTracker.filter.query.FilterClause;
+import com.CodeSquad.IssueTracker.filter.query.FilterQuery;
+
+import java.util.Set;
+
+// 바뀐 이슈 하나가 저장된 필터 조건에 맞는지 메모리에서 검사한다. CustomFilterRepository 의 SQL 과 같은 의미를 가진다.
+public class SavedFilterMatcher {
+
+    private SavedFilterMatcher() {
+    }
+
+    public static boolean matches(FilterQuery query, IssueFacts issue) {
+        if (query.isClosed() != issue.isClosed()) {
+            return false;
+        }
+        for (FilterClause clause : query.clauses()) {
+            Set<String> actual = switch (clause.field()) {
+                case ASSIGNEE -> issue.assigneeIds();
+                case LABEL -> issue.labelNames();
+                case MILESTONE -> issue.milestoneTitle() == null ? Set.of() : Set.of(issue.milestoneTitle());
+                case AUTHOR -> Set.of(issue.author());
+            };
+            boolean matched = clause.isEmptyCheck()
+                    ? actual.isEmpty()
+                    : clause.values().stream().anyMatch(actual::contains);
+            if (matched == clause.negated()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public record IssueFacts(
+            boolean isClosed,
+            String author,
+            String milestoneTitle,
+            Set<String> assigneeIds,
+            Set<String> labelNames)
+    { }
+}
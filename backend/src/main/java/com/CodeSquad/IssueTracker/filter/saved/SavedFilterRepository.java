@@ -0,0 +1,13 @@
+package com.CodeSquad.IssueTracker.filter.saved;
+
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SavedFilterRepository extends CrudRepository<SavedFilter, Long> {
+    @Query("SELECT * FROM saved_filters WHERE owner = :owner ORDER BY saved_filter_id")
+    List<SavedFilter> findByOwner(String owner);
+}
@@ -0,0 +1,278 @@
+package com.CodeSquad.IssueTracker.filter.saved;
+
+import com.CodeSquad.IssueTracker.cache.event.CatalogChangedEvent;
+import com.CodeSquad.IssueTracker.filter.CustomFilterRepository;
+import com.CodeSquad.IssueTracker.filter.query.FilterQuery;
+import com.CodeSquad.IssueTracker.filter.query.FilterQueryParser;
+import com.CodeSquad.IssueTracker.issues.event.IssueChangedEvent;
+import com.CodeSquad.IssueTracker.issues.listview.IssueListView;
+import com.CodeSquad.IssueTracker.issues.listview.IssueListViewRepository;
+import com.CodeSquad.IssueTracker.labels.Label;
+import com.CodeSquad.IssueTracker.labels.LabelService;
+import com.CodeSquad.IssueTracker.milestone.MilestoneService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+// 저장된 필터마다 조건에 맞는 이슈 id 집합을 메모리에 들고, 이슈가 바뀔 때마다 그 이슈만 다시 검사한다.
+// 집합을 만드는 조회는 백그라운드에서 잠금 없이 하고, 집합을 바꾸는 작업만 하나씩 수행한다. 읽기는 잠금 없이 한다.
+// 메모리에는 saved-filter.max-filters 개의 필터까지, 필터마다 saved-filter.max-results 개의 이슈까지만 둔다.
+// 다른 서버에서 일어난 이슈 변경은 이 서버에 이벤트로 오지 않으므로 saved-filter.rebuild-interval-ms 마다
+// 전체를 다시 만들어 맞춘다. 그 사이에는 결과가 최대 그 시간만큼 늦을 수 있다.
+@Slf4j
+@Component
+public class SavedFilterResults {
+    private final SavedFilterRepository savedFilterRepository;
+    private final CustomFilterRepository customFilterRepository;
+    private final IssueListViewRepository issueListViewRepository;
+    private final LabelService labelService;
+    private final MilestoneService milestoneService;
+    private final ExecutorService fanOutExecutor;
+    private final int maxFilters;
+    private final int maxResults;
+
+    private volatile Map<Long, Materialized> results = new ConcurrentHashMap<>();
+    // 집합을 만드는 도중 바뀐 이슈. 만든 집합을 넣기 전에 다시 검사한다.
+    private final AtomicInteger building = new AtomicInteger();
+    private final Set<Long> changedWhileBuilding = ConcurrentHashMap.newKeySet();
+    private final Set<Long> materializing = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean rebuildRunning = new AtomicBoolean(false);
+    private final AtomicBoolean rebuildPending = new AtomicBoolean(false);
+
+    public SavedFilterResults(SavedFilterRepository savedFilterRepository, CustomFilterRepository customFilterRepository,
+                              IssueListViewRepository issueListViewRepository, LabelService labelService,
+                              MilestoneService milestoneService, ExecutorService fanOutExecutor,
+                              @Value("${saved-filter.max-filters:500}") int maxFilters,
+                              @Value("${saved-filter.max-results:10000}") int maxResults) {
+        this.savedFilterRepository = savedFilterRepository;
+        this.customFilterRepository = customFilterRepository;
+        this.issueListViewRepository = issueListViewRepository;
+        this.labelService = labelService;
+        this.milestoneService = milestoneService;
+        this.fanOutExecutor = fanOutExecutor;
+        this.maxFilters = maxFilters;
+        this.maxResults = maxResults;
+    }
+
+    // 아직 메모리에 없거나(다른 서버에서 저장된 필터 등) 결과가 너무 커서 들고 있지 않으면 비어 있고,
+    // 호출한 쪽은 SQL 로 조회한다. 없던 필터는 백그라운드에서 만든다.
+    public Optional<Materialized> find(SavedFilter savedFilter) {
+        Materialized materialized = results.get(savedFilter.getSavedFilterId());
+        if (materialized == null) {
+            materializeAsync(savedFilter);
+            return Optional.empty();
+        }
+        return materialized.isOverflowed() ? Optional.empty() : Optional.of(materialized);
+    }
+
+    public void materializeAsync(SavedFilter savedFilter) {
+        if (results.size() >= maxFilters || !materializing.add(savedFilter.getSavedFilterId())) {
+            return;
+        }
+        fanOutExecutor.execute(() -> {
+            building.incrementAndGet();
+            try {
+                Materialized materialized = load(savedFilter);
+                install(() -> results.put(savedFilter.getSavedFilterId(), materialized), List.of(materialized));
+            } catch (RuntimeException e) {
+                log.error("저장된 필터 결과 생성 실패: {}", savedFilter.getSavedFilterId(), e);
+            } finally {
+                finishBuilding();
+                materializing.remove(savedFilter.getSavedFilterId());
+            }
+        });
+    }
+
+    public void remove(Long savedFilterId) {
+        results.remove(savedFilterId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuildAsync();
+    }
+
+    @Scheduled(fixedDelayString = "${saved-filter.rebuild-interval-ms:300000}",
+            initialDelayString = "${saved-filter.rebuild-interval-ms:300000}")
+    public void scheduledRebuild() {
+        rebuildAsync();
+    }
+
+    // 라벨 이름이나 마일스톤 제목이 바뀌면 바뀌지 않은 이슈의 결과도 달라지므로 전부 다시 만든다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        log.info("저장된 필터 결과 재생성: {}", event.reason());
+        rebuildAsync();
+    }
+
+    // 이미 재생성 중이면 끝난 뒤 한 번 더 돌린다.
+    public void rebuildAsync() {
+        rebuildPending.set(true);
+        if (!rebuildRunning.compareAndSet(false, true)) {
+            return;
+        }
+        fanOutExecutor.execute(() -> {
+            try {
+                while (rebuildPending.getAndSet(false)) {
+                    rebuild();
+                }
+            } catch (RuntimeException e) {
+                log.error("저장된 필터 결과 재생성 실패", e);
+            } finally {
+                rebuildRunning.set(false);
+                if (rebuildPending.get()) {
+                    rebuildAsync();
+                }
+            }
+        });
+    }
+
+    private void rebuild() {
+        building.incrementAndGet();
+        try {
+            Map<Long, Materialized> rebuilt = new ConcurrentHashMap<>();
+            for (SavedFilter savedFilter : savedFilterRepository.findAll()) {
+                if (rebuilt.size() >= maxFilters) {
+                    log.warn("저장된 필터가 {}개를 넘어 나머지는 SQL 로 조회합니다.", maxFilters);
+                    break;
+                }
+                rebuilt.put(savedFilter.getSavedFilterId(), load(savedFilter));
+            }
+            install(() -> results = rebuilt, rebuilt.values());
+            log.info("저장된 필터 결과 적재 완료: {}개", rebuilt.size());
+        } finally {
+            finishBuilding();
+        }
+    }
+
+    private Materialized load(SavedFilter savedFilter) {
+        FilterQuery query = FilterQueryParser.parse(savedFilter.getQuery(), false);
+        Materialized materialized = new Materialized(query, maxResults);
+        customFilterRepository.findIssueIds(query, maxResults + 1L).forEach(materialized::add);
+        return materialized;
+    }
+
+    // 조회하는 동안 바뀐 이슈를 새 집합에 반영한 뒤 넣는다.
+    private synchronized void install(Runnable swap, Collection<Materialized> built) {
+        if (!changedWhileBuilding.isEmpty()) {
+            apply(new ArrayList<>(changedWhileBuilding), built);
+        }
+        swap.run();
+    }
+
+    private synchronized void finishBuilding() {
+        if (building.decrementAndGet() == 0) {
+            changedWhileBuilding.clear();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onIssueChanged(IssueChangedEvent event) {
+        if (building.get() > 0) {
+            changedWhileBuilding.addAll(event.issueIds());
+        }
+        if (results.isEmpty()) {
+            return;
+        }
+        apply(event.issueIds(), results.values());
+    }
+
+    private void apply(Collection<Long> issueIds, Collection<Materialized> targets) {
+        List<Materialized> held = targets.stream()
+                .filter(materialized -> !materialized.isOverflowed())
+                .toList();
+        if (held.isEmpty()) {
+            return;
+        }
+        List<IssueListView> rows = issueListViewRepository.findByIds(new ArrayList<>(issueIds));
+        Set<Long> labelIds = rows.stream()
+                .flatMap(row -> row.getLabelIds().stream())
+                .collect(Collectors.toSet());
+        Map<Long, String> labelNames = labelService.findAllByIds(labelIds).stream()
+                .collect(Collectors.toMap(Label::getLabelId, Label::getLabelName));
+        Map<Long, String> milestoneTitles = milestoneService.getMilestoneTitles();
+
+        Set<Long> found = new HashSet<>();
+        for (IssueListView row : rows) {
+            found.add(row.getIssueId());
+            SavedFilterMatcher.IssueFacts facts = new SavedFilterMatcher.IssueFacts(
+                    row.getIsClosed(),
+                    row.getAuthor(),
+                    row.getMilestoneId() == null ? null : milestoneTitles.get(row.getMilestoneId()),
+                    new HashSet<>(row.getAssigneeIds()),
+                    row.getLabelIds().stream().map(labelNames::get).filter(Objects::nonNull).collect(Collectors.toSet()));
+            for (Materialized materialized : held) {
+                if (SavedFilterMatcher.matches(materialized.query(), facts)) {
+                    materialized.add(row.getIssueId());
+                } else {
+                    materialized.remove(row.getIssueId());
+                }
+            }
+        }
+        // 읽을 수 없는 이슈는 삭제된 것으로 본다.
+        issueIds.stream()
+                .filter(issueId -> !found.contains(issueId))
+                .forEach(issueId -> held.forEach(materialized -> materialized.remove(issueId)));
+    }
+
+    // 한 필터의 결과. 바꾸는 작업은 SavedFilterResults 의 잠금 안에서만 한다.
+    // 결과가 maxResults 를 넘으면 집합을 비우고 다음 재생성까지 SQL 로 조회하게 한다.
+    public static final class Materialized {
+        private final FilterQuery query;
+        private final int maxResults;
+        private final NavigableSet<Long> issueIds = new ConcurrentSkipListSet<>(Comparator.reverseOrder());
+        private final AtomicInteger size = new AtomicInteger();
+        private volatile boolean overflowed;
+
+        private Materialized(FilterQuery query, int maxResults) {
+            this.query = query;
+            this.maxResults = maxResults;
+        }
+
+        public FilterQuery query() {
+            return query;
+        }
+
+        // 큰 id 순으로 정렬되어 있다.
+        public NavigableSet<Long> issueIds() {
+            return Collections.unmodifiableNavigableSet(issueIds);
+        }
+
+        public int size() {
+            return size.get();
+        }
+
+        public boolean isOverflowed() {
+            return overflowed;
+        }
+
+        private void add(Long issueId) {
+            if (overflowed || !issueIds.add(issueId)) {
+                return;
+            }
+            if (size.incrementAndGet() > maxResults) {
+                overflowed = true;
+                issueIds.clear();
+                size.set(0);
+            }
+        }
+
+        private void remove(Long issueId) {
+            if (issueIds.remove(issueId)) {
+                size.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.CodeSquad.IssueTracker.filter.saved;
+
+import com.CodeSquad.IssueTracker.Exception.filter.InvalidFilterQueryException;
+import com.CodeSquad.IssueTracker.Exception.filter.SavedFilterNotFoundException;
+import com.CodeSquad.IssueTracker.filter.FilterService;
+import com.CodeSquad.IssueTracker.filter.dto.FilteredIssuesResponse;
+import com.CodeSquad.IssueTracker.filter.query.FilterQuery;
+import com.CodeSquad.IssueTracker.filter.query.FilterQueryParser;
+import com.CodeSquad.IssueTracker.filter.saved.dto.SavedFilterRequest;
+import com.CodeSquad.IssueTracker.filter.saved.dto.SavedFilterResponse;
+import com.CodeSquad.IssueTracker.issues.IssueListLoader;
+import com.CodeSquad.IssueTracker.user.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+public class SavedFilterService {
+    private final SavedFilterRepository savedFilterRepository;
+    private final SavedFilterResults savedFilterResults;
+    private final FilterService filterService;
+    private final UserService userService;
+    private final IssueListLoader issueListLoader;
+    private final int maxFilters;
+
+    public SavedFilterService(SavedFilterRepository savedFilterRepository, SavedFilterResults savedFilterResults,
+                              FilterService filterService, UserService userService, IssueListLoader issueListLoader,
+                              @Value("${saved-filter.max-filters:500}") int maxFilters) {
+        this.savedFilterRepository = savedFilterRepository;
+        this.savedFilterResults = savedFilterResults;
+        this.filterService = filterService;
+        this.userService = userService;
+        this.issueListLoader = issueListLoader;
+        this.maxFilters = maxFilters;
+    }
+
+    public SavedFilterResponse createSavedFilter(SavedFilterRequest request) {
+        userService.validateExistUser(request.owner());
+        FilterQuery query = filterService.toFilterQuery(request.is(), request.assignee(), request.label(),
+                request.milestone(), request.author(), request.q());
+        // 검색어 결과는 이슈 하나만 보고 판단할 수 없으므로 저장된 필터에서는 받지 않는다.
+        if (query.hasText()) {
+            throw new InvalidFilterQueryException("저장된 필터에는 검색어를 사용할 수 없습니다: " + query.text());
+        }
+        if (savedFilterRepository.count() >= maxFilters) {
+            throw new InvalidFilterQueryException("필터는 최대 " + maxFilters + "개까지 저장할 수 있습니다.");
+        }
+
+        SavedFilter savedFilter = savedFilterRepository.save(SavedFilter.builder()
+                .name(request.name())
+                .owner(request.owner())
+                .query(query.toQueryString())
+                .createdAt(LocalDateTime.now())
+                .build());
+        log.info("필터 저장: {} {}", savedFilter.getSavedFilterId(), savedFilter.getQuery());
+        savedFilterResults.materializeAsync(savedFilter);
+        return toResponse(savedFilter, countIssues(savedFilter));
+    }
+
+    public List<SavedFilterResponse> getSavedFilters(String owner) {
+        return savedFilterRepository.findByOwner(owner).stream()
+                .map(savedFilter -> toResponse(savedFilter, countIssues(savedFilter)))
+                .toList();
+    }
+
+    public FilteredIssuesResponse findIssues(Long savedFilterId, long page, long size) {
+        SavedFilter savedFilter = getSavedFilter(savedFilterId);
+        Optional<SavedFilterResults.Materialized> materialized = savedFilterResults.find(savedFilter);
+        if (materialized.isEmpty()) {
+            return filterService.findFilteredIssues(toQuery(savedFilter), page, size);
+        }
+        List<Long> pageIds = materialized.get().issueIds().stream()
+                .skip((page - 1) * size)
+                .limit(size)
+                .toList();
+        long total = materialized.get().size();
+        return FilteredIssuesResponse.builder()
+                .issues(issueListLoader.load(pageIds))
+                .totalCount(total)
+                .totalExact(true)
+                .hasMore(page * size < total)
+                .build();
+    }
+
+    public void deleteSavedFilter(Long savedFilterId) {
+        SavedFilter savedFilter = getSavedFilter(savedFilterId);
+        savedFilterRepository.delete(savedFilter);
+        savedFilterResults.remove(savedFilterId);
+    }
+
+    // 메모리에 결과가 없는 필터는 일반 필터 조회의 개수를 쓴다.
+    private long countIssues(SavedFilter savedFilter) {
+        return savedFilterResults.find(savedFilter)
+                .map(materialized -> (long) materialized.size())
+                .orElseGet(() -> filterService.findFilteredIssues(toQuery(savedFilter), 1, 1).totalCount());
+    }
+
+    private FilterQuery toQuery(SavedFilter savedFilter) {
+        return FilterQueryParser.parse(savedFilter.getQuery(), false);
+    }
+
+    private SavedFilter getSavedFilter(Long savedFilterId) {
+        return savedFilterRepository.findById(savedFilterId)
+                .orElseThrow(() -> new SavedFilterNotFoundException("저장된 필터가 존재하지 않습니다: " + savedFilterId));
+    }
+
+    private SavedFilterResponse toResponse(SavedFilter savedFilter, long issueCount) {
+        return SavedFilterResponse.builder()
+                .savedFilterId(savedFilter.getSavedFilterId())
+                .name(savedFilter.getName())
+                .owner(savedFilter.getOwner())
+                .query(savedFilter.getQuery())
+                .issueCount(issueCount)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.CodeSquad.IssueTracker.filter.saved.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.List;
+
+// /filters/issues 와 같은 파라미터를 받는다. q 가 있으면 q 가 우선한다.
+public record SavedFilterRequest(
+        @NotBlank(message = "필터 이름을 입력해주세요.")
+        String name,
+        @NotBlank(message = "작성자를 입력해주세요.")
+        String owner,
+        String is,
+        String assignee,
+        List<String> label,
+        String milestone,
+        String author,
+        String q)
+{ }
@@ -0,0 +1,12 @@
+package com.CodeSquad.IssueTracker.filter.saved.dto;
+
+import lombok.Builder;
+
+@Builder
+public record SavedFilterResponse(
+        Long savedFilterId,
+        String name,
+        String owner,
+        String query,
+        long issueCount)
+{ }
@@ -0,0 +1,8 @@
+package com.CodeSquad.IssueTracker.guard;
+
+// 최대 offset 을 넘는 페이지 요청을 어떻게 처리할지 정한다.
+// CURSOR 는 커서 조회를 지원하는 목록에서만 커서 주소로 돌려보내고, 지원하지 않으면 거절한다.
+public enum DeepPagePolicy {
+    REJECT,
+    CURSOR
+}
@@ -0,0 +1,109 @@
+package com.CodeSquad.IssueTracker.guard;
+
+import com.CodeSquad.IssueTracker.Exception.guard.DeepPageException;
+import com.CodeSquad.IssueTracker.guard.dto.QueryGuardStatsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// 목록/필터 조회가 DB를 오래 붙잡지 않도록 offset 상한과 쿼리 시간 제한을 한곳에서 관리한다.
+@Slf4j
+@Component
+public class QueryCostGuard {
+    private final long maxOffset;
+    private final long maxSeekOffset;
+    private final DeepPagePolicy deepPagePolicy;
+    private final int queryTimeoutSeconds;
+    private final long slowQueryNanos;
+    private final JdbcTemplate guardedJdbcTemplate;
+
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder redirectedCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder slowQueryCount = new LongAdder();
+    private final LongAccumulator maxQueryNanos = new LongAccumulator(Long::max, 0);
+
+    public QueryCostGuard(JdbcTemplate jdbcTemplate,
+                          @Value("${query.guard.max-offset:1500}") long maxOffset,
+                          @Value("${query.guard.max-seek-offset:50000}") long maxSeekOffset,
+                          @Value("${query.guard.deep-page-policy:CURSOR}") DeepPagePolicy deepPagePolicy,
+                          @Value("${query.guard.timeout-seconds:3}") int queryTimeoutSeconds,
+                          @Value("${query.guard.slow-query-ms:500}") long slowQueryMillis) {
+        this.maxOffset = maxOffset;
+        this.maxSeekOffset = maxSeekOffset;
+        this.deepPagePolicy = deepPagePolicy;
+        this.queryTimeoutSeconds = queryTimeoutSeconds;
+        this.slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryMillis);
+        // 기본 JdbcTemplate 은 목록 재생성처럼 오래 걸려도 되는 작업이 같이 쓰므로 따로 만든다.
+        this.guardedJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.guardedJdbcTemplate.setQueryTimeout(queryTimeoutSeconds);
+    }
+
+    // 사용자 요청으로 실행되는 목록/필터 조회용. 시간 제한을 넘으면 QueryTimeoutException 이 난다.
+    public JdbcTemplate jdbcTemplate() {
+        return guardedJdbcTemplate;
+    }
+
+    // offset 이 상한 안이면 false, 커서로 돌려보내야 하면 true, 그 외에는 거절한다.
+    // 커서 위치를 찾는 것도 인덱스를 offset 만큼 읽으므로 maxSeekOffset 을 넘으면 정책과 관계없이 거절한다.
+    public boolean redirectsToCursor(long offset) {
+        if (offset <= maxOffset) {
+            return false;
+        }
+        if (offset > maxSeekOffset) {
+            reject(offset, maxSeekOffset, "after 커서로 조회해 주세요.");
+        }
+        if (deepPagePolicy == DeepPagePolicy.CURSOR) {
+            redirectedCount.increment();
+            log.info("깊은 페이지 요청을 커서 조회로 돌려보냅니다. offset: {}", offset);
+            return true;
+        }
+        reject(offset, maxOffset, "after 커서로 조회해 주세요.");
+        return false;
+    }
+
+    // 커서 조회가 없는 목록은 정책과 관계없이 상한을 넘으면 거절한다.
+    public void checkOffset(long offset, String hint) {
+        if (offset > maxOffset) {
+            reject(offset, maxOffset, hint);
+        }
+    }
+
+    public void record(String queryName, long elapsedNanos) {
+        maxQueryNanos.accumulate(elapsedNanos);
+        if (elapsedNanos >= slowQueryNanos) {
+            slowQueryCount.increment();
+            log.warn("느린 조회: {} {}ms", queryName, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+
+    public void recordTimeout() {
+        timeoutCount.increment();
+    }
+
+    public QueryGuardStatsResponse getStats() {
+        return QueryGuardStatsResponse.builder()
+                .maxOffset(maxOffset)
+                .maxSeekOffset(maxSeekOffset)
+                .deepPagePolicy(deepPagePolicy.name())
+                .queryTimeoutSeconds(queryTimeoutSeconds)
+                .slowQueryMillis(TimeUnit.NANOSECONDS.toMillis(slowQueryNanos))
+                .rejectedCount(rejectedCount.sum())
+                .redirectedCount(redirectedCount.sum())
+                .timeoutCount(timeoutCount.sum())
+                .slowQueryCount(slowQueryCount.sum())
+                .maxQueryMillis(maxQueryNanos.get() / 1_000_000.0)
+                .build();
+    }
+
+    private void reject(long offset, long limit, String hint) {
+        rejectedCount.increment();
+        log.info("깊은 페이지 요청 거절. offset: {}", offset);
+        throw new DeepPageException("offset " + limit + " 을 넘는 페이지는 조회할 수 없습니다. " + hint);
+    }
+}
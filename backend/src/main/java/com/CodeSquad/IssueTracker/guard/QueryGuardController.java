@@ -0,0 +1,20 @@
+package com.CodeSquad.IssueTracker.guard;
+
+import com.CodeSquad.IssueTracker.guard.dto.QueryGuardStatsResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class QueryGuardController {
+    private final QueryCostGuard queryCostGuard;
+
+    public QueryGuardController(QueryCostGuard queryCostGuard) {
+        this.queryCostGuard = queryCostGuard;
+    }
+
+    @GetMapping("/query-guard/stats")
+    public ResponseEntity<QueryGuardStatsResponse> getStats() {
+        return ResponseEntity.ok(queryCostGuard.getStats());
+    }
+}
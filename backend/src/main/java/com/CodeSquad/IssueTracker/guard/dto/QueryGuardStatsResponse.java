@@ -0,0 +1,17 @@
+package com.CodeSquad.IssueTracker.guard.dto;
+
+import lombok.Builder;
+
+@Builder
+public record QueryGuardStatsResponse(
+        long maxOffset,
+        long maxSeekOffset,
+        String deepPagePolicy,
+        int queryTimeoutSeconds,
+        long slowQueryMillis,
+        long rejectedCount,
+        long redirectedCount,
+        long timeoutCount,
+        long slowQueryCount,
+        double maxQueryMillis)
+{ }
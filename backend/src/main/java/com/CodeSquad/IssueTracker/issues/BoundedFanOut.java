@@ -0,0 +1,72 @@
+package com.CodeSquad.IssueTracker.issues;
+
+import com.CodeSquad.IssueTracker.Exception.issue.IssueLoadTimeoutException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+// 한 요청에서 동시에 실행되는 조회 수(= 사용하는 DB 커넥션 수)를 제한하면서 작업을 병렬로 실행한다.
+// 시간이 초과되면 실행 중인 작업 스레드를 인터럽트해서 커넥션을 붙잡고 있지 않게 한다.
+class BoundedFanOut {
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final List<Future<?>> futures = new ArrayList<>();
+
+    BoundedFanOut(ExecutorService executor, int maxConcurrency) {
+        this.executor = executor;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    <T> Future<T> submit(Supplier<T> task) {
+        Future<T> future = executor.submit(() -> {
+            permits.acquire();
+            try {
+                return task.get();
+            } finally {
+                permits.release();
+            }
+        });
+        futures.add(future);
+        return future;
+    }
+
+    void await(long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            for (Future<?> future : futures) {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (TimeoutException e) {
+            cancelAll();
+            throw new IssueLoadTimeoutException("이슈 조회 시간이 초과되었습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll();
+            throw new IssueLoadTimeoutException("이슈 조회가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            cancelAll();
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // await 가 정상 종료된 뒤에만 호출한다.
+    <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IssueLoadTimeoutException("이슈 조회가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void cancelAll() {
+        futures.forEach(future -> future.cancel(true));
+    }
+}
@@ -1,10 +1,12 @@
 package com.CodeSquad.IssueTracker.issues;
 
+import com.CodeSquad.IssueTracker.cache.DataVersion;
 import com.CodeSquad.IssueTracker.issues.dto.*;
 import com.CodeSquad.IssueTracker.milestone.dto.MilestoneResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 
 @RestController
@@ -12,9 +14,11 @@ import org.springframework.web.bind.annotation.*;
 public class IssueController {
 
     private final IssueService issueService;
+    private final DataVersion dataVersion;
 
-    public IssueController(IssueService issueService) {
+    public IssueController(IssueService issueService, DataVersion dataVersion) {
         this.issueService = issueService;
+        this.dataVersion = dataVersion;
     }
 
 
@@ -26,9 +30,15 @@ public class IssueController {
     }
 
     @GetMapping("/{issueId}")
-    public ResponseEntity<IssueDetailResponse> getIssue(@PathVariable("issueId") long issueId) {
-        IssueDetailResponse issueDetailResponse = issueService.getIssueById(issueId);
-        return ResponseEntity.ok(issueDetailResponse);
+    public ResponseEntity<IssueDetailResponse> getIssue(@PathVariable("issueId") long issueId,
+                                                        @RequestParam(value = "comments", required = false) Long commentLimit,
+                                                        WebRequest webRequest) {
+        String eTag = dataVersion.issueETag(issueId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        IssueDetailResponse issueDetailResponse = issueService.getIssueById(issueId, commentLimit);
+        return ResponseEntity.ok().eTag(eTag).body(issueDetailResponse);
     }
 
     @PatchMapping("/{issueId}/open")
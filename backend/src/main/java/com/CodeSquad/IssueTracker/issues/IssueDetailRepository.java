@@ -0,0 +1,85 @@
+package com.CodeSquad.IssueTracker.issues;
+
+import com.CodeSquad.IssueTracker.guard.QueryCostGuard;
+import com.CodeSquad.IssueTracker.issues.comment.dto.CommentResponse;
+import com.CodeSquad.IssueTracker.issues.issueLabel.dto.LabelRequest;
+import com.CodeSquad.IssueTracker.milestone.dto.MilestoneInIssue;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+// 이슈 상세 화면의 병렬 조회용. 느린 DB 에서 요청 제한 시간을 넘겨 커넥션을 붙잡지 않도록
+// 시간 제한이 걸린 JdbcTemplate 으로 실행한다.
+@Repository
+public class IssueDetailRepository {
+    private static final String COMMENT_COLUMNS = "SELECT comment_id, content, author, published_at FROM comments ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IssueDetailRepository(QueryCostGuard queryCostGuard) {
+        this.jdbcTemplate = queryCostGuard.jdbcTemplate();
+    }
+
+    // 담당자, 라벨은 따로 병렬로 읽으므로 이슈 행만 읽는다.
+    public Optional<Issue> findIssue(Long issueId) {
+        return jdbcTemplate.query("SELECT issue_id, title, author, published_at, is_closed, milestone_id FROM issues " +
+                        "WHERE issue_id = ?",
+                (rs, rowNum) -> new Issue(
+                        rs.getLong("issue_id"),
+                        rs.getString("title"),
+                        rs.getString("author"),
+                        rs.getTimestamp("published_at").toLocalDateTime(),
+                        rs.getBoolean("is_closed"),
+                        rs.getObject("milestone_id", Long.class)),
+                issueId).stream().findFirst();
+    }
+
+    public List<CommentResponse> findComments(Long issueId) {
+        return jdbcTemplate.query(COMMENT_COLUMNS + "WHERE issue_id = ? ORDER BY comment_id",
+                commentMapper(), issueId);
+    }
+
+    // GET /issue/{id}/comments 와 상세 조회의 ?comments=N 이 함께 쓰는 keyset 페이지 조회
+    public List<CommentResponse> findCommentPage(Long issueId, long after, long limit) {
+        return jdbcTemplate.query(COMMENT_COLUMNS + "WHERE issue_id = ? AND comment_id > ? ORDER BY comment_id LIMIT ?",
+                commentMapper(), issueId, after, limit);
+    }
+
+    public List<String> findAssignees(Long issueId) {
+        return jdbcTemplate.queryForList("SELECT user_id FROM assignees WHERE issue_id = ?", String.class, issueId);
+    }
+
+    public List<LabelRequest> findLabels(Long issueId) {
+        return jdbcTemplate.query("SELECT il.label_id, la.label_name, la.text_color, la.bg_color FROM issueLabel il " +
+                        "JOIN labels la ON il.label_id = la.label_id WHERE il.issue_id = ?",
+                (rs, rowNum) -> LabelRequest.builder()
+                        .labelId(rs.getLong("label_id"))
+                        .labelName(rs.getString("label_name"))
+                        .textColor(rs.getString("text_color"))
+                        .bgColor(rs.getString("bg_color"))
+                        .build(),
+                issueId);
+    }
+
+    public Optional<MilestoneInIssue> findMilestone(Long milestoneId) {
+        return jdbcTemplate.query("SELECT milestone_id, title, total_issue, closed_issue FROM milestone WHERE milestone_id = ?",
+                (rs, rowNum) -> new MilestoneInIssue(
+                        rs.getLong("milestone_id"),
+                        rs.getString("title"),
+                        rs.getLong("total_issue"),
+                        rs.getLong("closed_issue")),
+                milestoneId).stream().findFirst();
+    }
+
+    private RowMapper<CommentResponse> commentMapper() {
+        return (rs, rowNum) -> CommentResponse.builder()
+                .commentId(rs.getLong("comment_id"))
+                .content(rs.getString("content"))
+                .author(rs.getString("author"))
+                .publishedAt(rs.getTimestamp("published_at").toLocalDateTime().toString())
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.CodeSquad.IssueTracker.issues;
+
+import com.CodeSquad.IssueTracker.issues.dto.IssueListResponse;
+import com.CodeSquad.IssueTracker.issues.issueLabel.dto.LabelRequest;
+import com.CodeSquad.IssueTracker.issues.listview.IssueListView;
+import com.CodeSquad.IssueTracker.issues.listview.IssueListViewRepository;
+import com.CodeSquad.IssueTracker.labels.Label;
+import com.CodeSquad.IssueTracker.labels.LabelService;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Component
+public class IssueListLoader {
+    private final IssueListViewRepository issueListViewRepository;
+    private final LabelService labelService;
+
+    public IssueListLoader(IssueListViewRepository issueListViewRepository, LabelService labelService) {
+        this.issueListViewRepository = issueListViewRepository;
+        this.labelService = labelService;
+    }
+
+    public List<IssueListResponse> load(List<Long> issueIds) {
+        if (issueIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, IssueListView> viewMap = new HashMap<>();
+        for (IssueListView view : issueListViewRepository.findByIds(issueIds)) {
+            viewMap.put(view.getIssueId(), view);
+        }
+
+        List<IssueListView> ordered = new ArrayList<>();
+        for (Long issueId : issueIds) {
+            IssueListView view = viewMap.get(issueId);
+            if (view != null) {
+                ordered.add(view);
+            }
+        }
+        return toResponses(ordered);
+    }
+
+    // 목록 뷰에는 라벨 id만 있으므로 페이지에 등장한 라벨만 한 번에 조회해 채운다.
+    public List<IssueListResponse> toResponses(List<IssueListView> views) {
+        Set<Long> labelIds = new HashSet<>();
+        for (IssueListView view : views) {
+            labelIds.addAll(view.getLabelIds());
+        }
+
+        Map<Long, LabelRequest> labelMap = new HashMap<>();
+        if (!labelIds.isEmpty()) {
+            for (Label label : labelService.findAllByIds(labelIds)) {
+                labelMap.put(label.getLabelId(), LabelRequest.builder()
+                        .labelId(label.getLabelId())
+                        .labelName(label.getLabelName())
+                        .bgColor(label.getBgColor())
+                        .textColor(label.getTextColor())
+                        .build());
+            }
+        }
+
+        List<IssueListResponse> result = new ArrayList<>();
+        for (IssueListView view : views) {
+            List<LabelRequest> labels = new ArrayList<>();
+            for (Long labelId : view.getLabelIds()) {
+                LabelRequest label = labelMap.get(labelId);
+                if (label != null) {
+                    labels.add(label);
+                }
+            }
+
+            result.add(IssueListResponse.builder()
+                    .issueId(view.getIssueId())
+                    .title(view.getTitle())
+                    .author(view.getAuthor())
+                    .publishedAt(view.getPublishedAt())
+                    .isClosed(view.getIsClosed())
+                    .assignees(new ArrayList<>(view.getAssigneeIds()))
+                    .labels(labels)
+                    .milestoneId(view.getMilestoneId())
+                    .build());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+package com.CodeSquad.IssueTracker.issues;
+
+import com.CodeSquad.IssueTracker.cache.DataVersion;
+import com.CodeSquad.IssueTracker.cache.dto.CacheStatsResponse;
+import com.CodeSquad.IssueTracker.issues.dto.IssueListResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class IssuePageCache {
+    private final DataVersion dataVersion;
+    private final int maxSize;
+    private final Map<PageKey, CachedPage> pages;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public IssuePageCache(DataVersion dataVersion, @Value("${issue.page-cache.max-size:64}") int maxSize) {
+        this.dataVersion = dataVersion;
+        this.maxSize = maxSize;
+        this.pages = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PageKey, CachedPage> eldest) {
+                if (size() > IssuePageCache.this.maxSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public List<IssueListResponse> get(boolean isClosed, long page, long limit, Supplier<List<IssueListResponse>> loader) {
+        PageKey key = new PageKey(isClosed, page, limit);
+        // 조회 도중 쓰기가 일어나면 다음 요청에서 miss가 나도록 조회 전의 세대를 기록한다.
+        long generation = dataVersion.current();
+        synchronized (pages) {
+            CachedPage cached = pages.get(key);
+            if (cached != null && cached.generation() == generation) {
+                hitCount.incrementAndGet();
+                return cached.issues();
+            }
+        }
+
+        missCount.incrementAndGet();
+        List<IssueListResponse> issues = List.copyOf(loader.get());
+        synchronized (pages) {
+            pages.put(key, new CachedPage(generation, issues));
+        }
+        return issues;
+    }
+
+    public CacheStatsResponse getStats() {
+        long hits = hitCount.get();
+        long misses = missCount.get();
+        int size;
+        synchronized (pages) {
+            size = pages.size();
+        }
+        return CacheStatsResponse.builder()
+                .size(size)
+                .maxSize(maxSize)
+                .hitCount(hits)
+                .missCount(misses)
+                .evictionCount(evictionCount.get())
+                .hitRate(hits + misses == 0 ? 0 : (double) hits / (hits + misses))
+                .build();
+    }
+
+    private record PageKey(boolean isClosed, long page, long limit) { }
+
+    private record CachedPage(long generation, List<IssueListResponse> issues) { }
+}
@@ -0,0 +1,74 @@
+package com.CodeSquad.IssueTracker.issues;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+// 이슈의 담당자/라벨 연결을 바뀐 것만 INSERT, DELETE 한다.
+// Issue 애그리거트를 save 하면 연결 행을 모두 지웠다가 다시 넣고 issues 행까지 다시 쓰기 때문이다.
+@Repository
+public class IssueRelationRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public IssueRelationRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 같은 이슈의 연결을 동시에 바꾸는 요청이 서로의 차이 계산을 덮어쓰지 않도록 이슈 행을 잠근다. 이슈가 없으면 false.
+    public boolean lockIssue(Long issueId) {
+        return !jdbcTemplate.queryForList("SELECT issue_id FROM issues WHERE issue_id = ? FOR UPDATE",
+                Long.class, issueId).isEmpty();
+    }
+
+    public Set<String> findAssigneeIds(Long issueId) {
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT user_id FROM assignees WHERE issue_id = ?",
+                String.class, issueId));
+    }
+
+    public Set<Long> findLabelIds(Long issueId) {
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT label_id FROM issueLabel WHERE issue_id = ?",
+                Long.class, issueId));
+    }
+
+    public void addAssignees(Long issueId, Collection<String> userIds) {
+        insert("assignees", "user_id", issueId, userIds);
+    }
+
+    public void removeAssignees(Long issueId, Collection<String> userIds) {
+        delete("assignees", "user_id", issueId, userIds);
+    }
+
+    public void addLabels(Long issueId, Collection<Long> labelIds) {
+        insert("issueLabel", "label_id", issueId, labelIds);
+    }
+
+    public void removeLabels(Long issueId, Collection<Long> labelIds) {
+        delete("issueLabel", "label_id", issueId, labelIds);
+    }
+
+    // 여러 행을 한 문장의 다중 VALUES 로 넣는다.
+    private void insert(String table, String column, Long issueId, Collection<?> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        List<Object> params = new ArrayList<>();
+        for (Object value : values) {
+            params.add(issueId);
+            params.add(value);
+        }
+        jdbcTemplate.update("INSERT INTO " + table + " (issue_id, " + column + ") VALUES " +
+                String.join(",", Collections.nCopies(values.size(), "(?, ?)")), params.toArray());
+    }
+
+    private void delete(String table, String column, Long issueId, Collection<?> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        List<Object> params = new ArrayList<>();
+        params.add(issueId);
+        params.addAll(values);
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE issue_id = ? AND " + column + " IN (" +
+                String.join(",", Collections.nCopies(values.size(), "?")) + ")", params.toArray());
+    }
+}
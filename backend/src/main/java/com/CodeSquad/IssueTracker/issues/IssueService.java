@@ -1,52 +1,104 @@
 package com.CodeSquad.IssueTracker.issues;
 
+import com.CodeSquad.IssueTracker.Exception.issue.InvalidIssueDataException;
 import com.CodeSquad.IssueTracker.Exception.issue.InvalidIssuePageException;
 import com.CodeSquad.IssueTracker.Exception.issue.IssueNotExistException;
 import com.CodeSquad.IssueTracker.assignee.AssigneeService;
+import com.CodeSquad.IssueTracker.cache.DataVersion;
+import com.CodeSquad.IssueTracker.guard.QueryCostGuard;
 import com.CodeSquad.IssueTracker.assignee.dao.AssigneeId;
 import com.CodeSquad.IssueTracker.issues.comment.Comment;
 import com.CodeSquad.IssueTracker.issues.comment.CommentRepository;
+import com.CodeSquad.IssueTracker.issues.comment.dto.CommentPageResponse;
 import com.CodeSquad.IssueTracker.issues.comment.dto.CommentResponse;
+import com.CodeSquad.IssueTracker.issues.counter.IssueCounterService;
 import com.CodeSquad.IssueTracker.issues.dto.*;
+import com.CodeSquad.IssueTracker.issues.event.CommentChangedEvent;
+import com.CodeSquad.IssueTracker.issues.event.IssueChangedEvent;
+import com.CodeSquad.IssueTracker.issues.event.IssueTitleChangedEvent;
 import com.CodeSquad.IssueTracker.issues.issueLabel.IssueLabelService;
 import com.CodeSquad.IssueTracker.issues.issueLabel.dto.LabelId;
 import com.CodeSquad.IssueTracker.issues.issueLabel.dto.LabelRequest;
+import com.CodeSquad.IssueTracker.issues.listview.IssueListView;
+import com.CodeSquad.IssueTracker.issues.listview.IssueListViewRepository;
+import com.CodeSquad.IssueTracker.issues.utils.IssueCursor;
 import com.CodeSquad.IssueTracker.labels.LabelService;
-import com.CodeSquad.IssueTracker.milestone.Milestone;
 import com.CodeSquad.IssueTracker.milestone.MilestoneService;
 import com.CodeSquad.IssueTracker.milestone.dto.MilestoneInIssue;
 import com.CodeSquad.IssueTracker.milestone.dto.MilestoneResponse;
 import com.CodeSquad.IssueTracker.user.UserService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class IssueService {
+    private static final long MAX_PAGE_SIZE = 100;
+    // 한 번에 잠그고 바꾸는 이슈 수. 요청 하나가 행 잠금과 IN 목록을 끝없이 키우지 못하게 한다.
+    private static final int MAX_BULK_ISSUES = 1000;
+
     private final IssueRepository issueRepository;
+    private final IssueStateRepository issueStateRepository;
+    private final IssueRelationRepository issueRelationRepository;
     private final CommentRepository commentRepository;
+    private final IssueDetailRepository issueDetailRepository;
     private final MilestoneService milestoneService;
     private final LabelService labelService;
     private final AssigneeService assigneeService;
     private final UserService userService;
     private final IssueLabelService issueLabelService;
-
-    public IssueService(IssueRepository issueRepository, CommentRepository commentRepository,
+    private final IssueListLoader issueListLoader;
+    private final IssueListViewRepository issueListViewRepository;
+    private final IssuePageCache issuePageCache;
+    private final QueryCostGuard queryCostGuard;
+    private final DataVersion dataVersion;
+    private final IssueCounterService issueCounterService;
+    private final ExecutorService fanOutExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int detailMaxConnections;
+    private final long detailTimeoutMillis;
+
+    public IssueService(IssueRepository issueRepository, IssueStateRepository issueStateRepository,
+                        IssueRelationRepository issueRelationRepository,
+                        CommentRepository commentRepository,
+                        IssueDetailRepository issueDetailRepository,
                         UserService userService, MilestoneService milestoneService,
                         LabelService labelService, AssigneeService assigneeService,
-                        IssueLabelService issueLabelService) {
+                        IssueLabelService issueLabelService, IssueListLoader issueListLoader,
+                        IssueListViewRepository issueListViewRepository, IssuePageCache issuePageCache,
+                        QueryCostGuard queryCostGuard, DataVersion dataVersion, IssueCounterService issueCounterService,
+                        ExecutorService fanOutExecutor, ApplicationEventPublisher eventPublisher,
+                        @Value("${issue.detail.max-connections-per-request:4}") int detailMaxConnections,
+                        @Value("${issue.detail.timeout-ms:3000}") long detailTimeoutMillis) {
         this.issueRepository = issueRepository;
+        this.issueStateRepository = issueStateRepository;
+        this.issueRelationRepository = issueRelationRepository;
         this.commentRepository = commentRepository;
+        this.issueDetailRepository = issueDetailRepository;
         this.userService = userService;
         this.milestoneService = milestoneService;
         this.labelService = labelService;
         this.assigneeService = assigneeService;
         this.issueLabelService = issueLabelService;
+        this.issueListLoader = issueListLoader;
+        this.issueListViewRepository = issueListViewRepository;
+        this.issuePageCache = issuePageCache;
+        this.queryCostGuard = queryCostGuard;
+        this.dataVersion = dataVersion;
+        this.issueCounterService = issueCounterService;
+        this.fanOutExecutor = fanOutExecutor;
+        this.eventPublisher = eventPublisher;
+        this.detailMaxConnections = detailMaxConnections;
+        this.detailTimeoutMillis = detailTimeoutMillis;
     }
 
 
@@ -56,6 +108,7 @@ public class IssueService {
         return (List<Issue>) issueRepository.findAll();
     }
 
+    @Transactional
     public Long createIssue(IssueRequest issueRequest) {
         validateIssueRequest(issueRequest);
         assigneeService.validateAssigneeIds(issueRequest.assignees());
@@ -86,6 +139,7 @@ public class IssueService {
                 .build();
 
         issueRepository.save(issue);
+        issueCounterService.issueCreated();
         if (issue.getMilestoneId() != null){
             milestoneService.incrementTotalIssue(issue.getMilestoneId());
         }
@@ -102,6 +156,9 @@ public class IssueService {
                 .build();
 
         commentRepository.save(comment);
+        issueChanged(issue.getIssueId());
+        eventPublisher.publishEvent(new IssueTitleChangedEvent(issue.getIssueId()));
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getCommentId()));
 
         return issue.getIssueId();
     }
@@ -114,74 +171,73 @@ public class IssueService {
 
     public List<IssueListResponse> findIssues(long page, long limit, boolean isClosed) {
         validateIssueListPage(page);
-        long offset = (page - 1) * limit;
-
-        List<Long> issueIds = issueRepository.findIssueIds(isClosed, limit, offset);
-        Collections.sort(issueIds);
-        Collections.reverse(issueIds);
-        if (issueIds.isEmpty()) {
-            log.info("더 이상 가져올 이슈가 없습니다.");
-            return new ArrayList<>();
-        }
-
-        List<IssueDetailAccess> issueDetailById = issueRepository.getIssueDetailByIds(issueIds);
-        Map<Long, IssueListResponse> issueMap = new HashMap<>();
-        for (IssueDetailAccess issue : issueDetailById) {
-            if (!issueMap.containsKey(issue.getIssueId())) {
-                IssueListResponse issueListResponse = IssueListResponse.builder()
-                        .issueId(issue.getIssueId())
-                        .title(issue.getTitle())
-                        .author(issue.getAuthor())
-                        .publishedAt(issue.getPublishedAt())
-                        .isClosed(issue.getIsClosed())
-                        .assignees(new ArrayList<>())
-                        .labels(new ArrayList<>())
-                        .milestoneId(issue.getMilestoneId())
-                        .build();
-                issueMap.put(issue.getIssueId(), issueListResponse);
+        return issuePageCache.get(isClosed, page, limit, () -> {
+            long offset = toOffset(page, limit);
+            List<IssueListView> issues = issueListViewRepository.findPage(isClosed, limit, offset);
+            if (issues.isEmpty()) {
+                log.info("더 이상 가져올 이슈가 없습니다.");
             }
-            IssueListResponse issueListResponse = issueMap.get(issue.getIssueId());
+            return issueListLoader.toResponses(issues);
+        });
+    }
 
-            if (issue.getAssignee() != null && !issue.getAssignee().isEmpty() &&
-                    !issueListResponse.getAssignees().contains(issue.getAssignee())) {
-                issueListResponse.getAssignees().add(issue.getAssignee());
-            }
-            if (issue.getLabelId() != null && !isExistLabelRequest(issueListResponse.getLabels(), issue.getLabelId())) {
-                issueListResponse.getLabels().add(LabelRequest.builder()
-                        .labelId(issue.getLabelId())
-                        .labelName(issue.getLabelName())
-                        .bgColor(issue.getBgColor())
-                        .textColor(issue.getTextColor())
-                        .build());
-            }
+    // 깊은 페이지는 OFFSET 으로 읽지 않고, 해당 위치부터 시작하는 커서를 돌려준다. 상한 안이면 빈 값.
+    public Optional<String> findDeepPageCursor(long page, long limit, boolean isClosed) {
+        validateIssueListPage(page);
+        long offset = toOffset(page, limit);
+        if (!queryCostGuard.redirectsToCursor(offset)) {
+            return Optional.empty();
         }
+        // 커서는 "이 id 보다 작은" 이슈부터 가져오므로 찾은 id 에 1을 더한다. 끝을 넘었으면 빈 페이지가 되는 커서를 준다.
+        long after = issueListViewRepository.findIdAtOffset(isClosed, offset)
+                .map(issueId -> issueId + 1)
+                .orElse(0L);
+        return Optional.of(IssueCursor.encode(after));
+    }
 
-        List<IssueListResponse> result = new ArrayList<>();
-        for (Long issueId : issueIds) {
-            result.add(issueMap.get(issueId));
+    public IssuePageResponse findIssuesAfter(String cursor, long size, boolean isClosed) {
+        validateIssuePageSize(size);
+        long after = (cursor == null) ? Long.MAX_VALUE : IssueCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회한다.
+        List<IssueListView> issues = issueListViewRepository.findPageAfter(isClosed, after, size + 1);
+        String nextCursor = null;
+        if (issues.size() > size) {
+            issues = issues.subList(0, (int) size);
+            nextCursor = IssueCursor.encode(issues.get(issues.size() - 1).getIssueId());
         }
 
-        return result;
+        return IssuePageResponse.builder()
+                .issues(issueListLoader.toResponses(issues))
+                .nextCursor(nextCursor)
+                .build();
     }
 
-    private boolean isExistLabelRequest(List<LabelRequest> labels, Long labelId) {
-        for (LabelRequest label : labels) {
-            if (label.labelId().equals(labelId)) {
-                return true;
-            }
-        }
-        return false;
+    public IssueDetailResponse getIssueById(long issueId) {
+        return getIssueById(issueId, null);
     }
 
-    public IssueDetailResponse getIssueById(long issueId) {
-        Issue issue = findIssueById(issueId);
+    // commentLimit가 주어지면 첫 commentLimit개의 코멘트와 다음 코멘트 커서만 담는다.
+    public IssueDetailResponse getIssueById(long issueId, Long commentLimit) {
+        Issue issue = issueDetailRepository.findIssue(issueId)
+                .orElseThrow(() -> new IssueNotExistException("존재하지 않는 이슈입니다."));
+        if (commentLimit != null) {
+            validateIssuePageSize(commentLimit);
+        }
 
-        List<CommentResponse> comments = commentRepository.findByIssueId(issueId);
-        List<String> assignees = assigneeService.findUsersByIssueId(issueId);
-        List<LabelRequest> labels = issueLabelService.getLabelsByIssueId(issueId);
-        MilestoneInIssue milestoneInIssue = Optional.ofNullable(issue.getMilestoneId())
-                .map(milestoneService::getMilestoneInIssue)
-                .orElse(null);
+        BoundedFanOut fanOut = new BoundedFanOut(fanOutExecutor, detailMaxConnections);
+        Future<CommentPageResponse> comments = fanOut.submit(() -> (commentLimit == null)
+                ? new CommentPageResponse(issueDetailRepository.findComments(issueId), null)
+                : toCommentPage(issueDetailRepository.findCommentPage(issueId, 0, commentLimit + 1), commentLimit));
+        Future<List<String>> assignees = fanOut.submit(() -> issueDetailRepository.findAssignees(issueId));
+        Future<List<LabelRequest>> labels = fanOut.submit(() -> issueDetailRepository.findLabels(issueId));
+        Future<MilestoneInIssue> milestoneInIssue = fanOut.submit(() -> milestoneService.readCounts(() ->
+                Optional.ofNullable(issue.getMilestoneId())
+                        .flatMap(issueDetailRepository::findMilestone)
+                        .map(milestoneService::withPendingCounts)
+                        .orElse(null)));
+        fanOut.await(detailTimeoutMillis);
+        CommentPageResponse commentPage = fanOut.join(comments);
 
         return IssueDetailResponse.builder()
                 .issueId(issue.getIssueId())
@@ -189,10 +245,32 @@ public class IssueService {
                 .author(issue.getAuthor())
                 .publishedAt(issue.getPublishedAt().toString())
                 .isClosed(issue.getIsClosed())
+                .comments(commentPage.comments())
+                .nextCommentCursor(commentPage.nextCursor())
+                .assignees(fanOut.join(assignees))
+                .labels(fanOut.join(labels))
+                .milestone(fanOut.join(milestoneInIssue))
+                .build();
+    }
+
+    public CommentPageResponse findCommentPage(Long issueId, String cursor, long size) {
+        validateIssuePageSize(size);
+        long after = (cursor == null) ? 0 : IssueCursor.decode(cursor);
+
+        return toCommentPage(issueDetailRepository.findCommentPage(issueId, after, size + 1), size);
+    }
+
+    // size + 1 개를 조회한 결과에서 다음 페이지 존재 여부를 판단한다.
+    private CommentPageResponse toCommentPage(List<CommentResponse> comments, long size) {
+        String nextCursor = null;
+        if (comments.size() > size) {
+            comments = comments.subList(0, (int) size);
+            nextCursor = IssueCursor.encode(comments.get(comments.size() - 1).getCommentId());
+        }
+
+        return CommentPageResponse.builder()
                 .comments(comments)
-                .assignees(assignees)
-                .labels(labels)
-                .milestone(milestoneInIssue)
+                .nextCursor(nextCursor)
                 .build();
     }
 
@@ -202,10 +280,26 @@ public class IssueService {
         }
     }
 
+    // 아주 큰 page 가 음수 offset 으로 넘쳐 상한 검사를 지나가지 않도록 최댓값에서 멈춘다.
+    private long toOffset(long page, long limit) {
+        return (page - 1 > Long.MAX_VALUE / limit) ? Long.MAX_VALUE : (page - 1) * limit;
+    }
+
+    public void validateIssuePageSize(long size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidIssuePageException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하의 정수여야 합니다.");
+        }
+    }
+
     @Transactional
     public void openIssue(long issueId) {
         Issue issue = findIssueById(issueId);
-        issueRepository.openIssue(issueId);
+        // 이미 같은 상태인 이슈는 카운터를 건드리지 않는다.
+        if (!issueRepository.openIssue(issueId)) {
+            return;
+        }
+        issueCounterService.issuesOpened(1);
+        issueChanged(issueId);
 
         if (issue.getMilestoneId() != null){
             milestoneService.decrementClosedIssue(issue.getMilestoneId());
@@ -215,45 +309,77 @@ public class IssueService {
     @Transactional
     public void closeIssue(long issueId) {
         Issue issue = findIssueById(issueId);
-        issueRepository.closeIssue(issueId);
+        // 이미 같은 상태인 이슈는 카운터를 건드리지 않는다.
+        if (!issueRepository.closeIssue(issueId)) {
+            return;
+        }
+        issueCounterService.issuesClosed(1);
+        issueChanged(issueId);
 
         if (issue.getMilestoneId() != null){
             milestoneService.incrementClosedIssue(issue.getMilestoneId());
         }
     }
 
+    @Transactional
     public void updateIssueTitle(Long issueId, IssueTitleRequest issueTitleRequest) {
         findIssueById(issueId);
         issueRepository.updateIssueTitle(issueId, issueTitleRequest.title());
+        issueChanged(issueId);
+        eventPublisher.publishEvent(new IssueTitleChangedEvent(issueId));
     }
 
     @Transactional
     public void updateAssignees(Long issueId, Set<String> newAssignees) {
-        Issue issue = findIssueById(issueId);
         assigneeService.validateAssigneeIds(newAssignees);
+        lockIssue(issueId);
 
-        Set<AssigneeId> assigneeIds = newAssignees.stream()
-                .map(AssigneeId::new)
-                .collect(Collectors.toSet());
-
-        issue.setAssignees(assigneeIds);
+        Set<String> current = issueRelationRepository.findAssigneeIds(issueId);
+        Set<String> added = difference(newAssignees, current);
+        Set<String> removed = difference(current, newAssignees);
+        if (added.isEmpty() && removed.isEmpty()) {
+            return;
+        }
 
-        issueRepository.save(issue);
+        issueRelationRepository.removeAssignees(issueId, removed);
+        issueRelationRepository.addAssignees(issueId, added);
+        issueChanged(issueId);
     }
 
     @Transactional
     public void updateLabels(Long issueId, Set<Long> newLabels) {
         labelService.validateLabels(newLabels);
+        lockIssue(issueId);
 
-        Issue issue = findIssueById(issueId);
+        Set<Long> current = issueRelationRepository.findLabelIds(issueId);
+        Set<Long> added = difference(newLabels, current);
+        Set<Long> removed = difference(current, newLabels);
+        if (added.isEmpty() && removed.isEmpty()) {
+            return;
+        }
 
-        Set<LabelId> labelIds = newLabels.stream()
-                .map(LabelId::new)
-                .collect(Collectors.toSet());
+        issueRelationRepository.removeLabels(issueId, removed);
+        issueRelationRepository.addLabels(issueId, added);
+        issueChanged(issueId);
+    }
 
-        issue.setLabels(labelIds);
+    private void lockIssue(Long issueId) {
+        if (!issueRelationRepository.lockIssue(issueId)) {
+            throw new IssueNotExistException("존재하지 않는 이슈입니다.");
+        }
+    }
 
-        issueRepository.save(issue);
+    private <T> Set<T> difference(Set<T> from, Set<T> subtract) {
+        Set<T> result = new HashSet<>(from);
+        result.removeAll(subtract);
+        return result;
+    }
+
+    private void issueChanged(Long issueId) {
+        issueListViewRepository.refresh(issueId);
+        dataVersion.bumpIssue(issueId);
+        dataVersion.bump();
+        eventPublisher.publishEvent(new IssueChangedEvent(List.of(issueId)));
     }
 
     private void validateIssueRequest(IssueRequest issueRequest) {
@@ -272,8 +398,9 @@ public class IssueService {
                 milestoneService.incrementClosedIssue(milestoneId);
             }
             issueRepository.updateMilestoneIdForIssue(issueId, milestoneId);
-            Milestone milestone = milestoneService.getMilestoneById(milestoneId);
-            return milestoneService.getMilestoneResponse(milestone);
+            issueChanged(issueId);
+            // 이 트랜잭션의 카운터 변경은 커밋 전이라 버퍼의 자기 몫으로 더해진다.
+            return milestoneService.getMilestoneResponse(milestoneId);
         } else
         if (milestoneId != null) {
             // 마일스톤 ID가 존재하는 경우 업데이트
@@ -286,8 +413,9 @@ public class IssueService {
             }
 
             issueRepository.updateMilestoneIdForIssue(issueId, milestoneId);
-            Milestone milestone = milestoneService.getMilestoneById(milestoneId);
-            return milestoneService.getMilestoneResponse(milestone);
+            issueChanged(issueId);
+            // 이 트랜잭션의 카운터 변경은 커밋 전이라 버퍼의 자기 몫으로 더해진다.
+            return milestoneService.getMilestoneResponse(milestoneId);
         } else {
             // 마일스톤 ID가 null인 경우 해당 이슈의 마일스톤을 삭제
             milestoneService.decrementTotalIssue(issue.getMilestoneId());
@@ -297,31 +425,77 @@ public class IssueService {
             }
 
             issueRepository.removeMilestoneFromIssue(issueId);
+            issueChanged(issueId);
             return null;
         }
     }
 
     @Transactional
-    public void openIssues(IssueIds issueIds) {
-        for (Long issueId : issueIds.issueIds()) {
-            openIssue(issueId);
-        }
+    public IssueBulkStateResponse openIssues(IssueIds issueIds) {
+        return changeIssueStates(issueIds, false);
     }
 
     @Transactional
-    public void closeIssues(IssueIds issueIds) {
-        for (Long issueId : issueIds.issueIds()) {
-            closeIssue(issueId);
+    public IssueBulkStateResponse closeIssues(IssueIds issueIds) {
+        return changeIssueStates(issueIds, true);
+    }
+
+    // 이슈마다 조회/UPDATE/마일스톤 갱신을 반복하지 않고, 잠금 조회 한 번과 UPDATE 한 번,
+    // 마일스톤 배치 한 번으로 상태를 바꾼다.
+    private IssueBulkStateResponse changeIssueStates(IssueIds issueIds, boolean isClosed) {
+        List<Long> requestedIds = (issueIds == null || issueIds.issueIds() == null)
+                ? Collections.emptyList()
+                : issueIds.issueIds().stream().filter(Objects::nonNull).distinct().toList();
+        if (requestedIds.size() > MAX_BULK_ISSUES) {
+            throw new InvalidIssueDataException("이슈는 한 번에 " + MAX_BULK_ISSUES + "개까지 변경할 수 있습니다.");
         }
+
+        Map<Long, IssueState> states = issueStateRepository.findStatesForUpdate(requestedIds).stream()
+                .collect(Collectors.toMap(IssueState::issueId, state -> state));
+
+        List<Long> changedIds = new ArrayList<>();
+        Map<Long, Long> milestoneDeltas = new HashMap<>();
+        List<IssueStateResult> results = new ArrayList<>();
+        for (Long issueId : requestedIds) {
+            IssueState state = states.get(issueId);
+            if (state == null) {
+                results.add(new IssueStateResult(issueId, IssueStateOutcome.NOT_FOUND));
+                continue;
+            }
+            if (state.isClosed() == isClosed) {
+                results.add(new IssueStateResult(issueId, IssueStateOutcome.UNCHANGED));
+                continue;
+            }
+            changedIds.add(issueId);
+            if (state.milestoneId() != null) {
+                milestoneDeltas.merge(state.milestoneId(), isClosed ? 1L : -1L, Long::sum);
+            }
+            results.add(new IssueStateResult(issueId, IssueStateOutcome.CHANGED));
+        }
+
+        if (!changedIds.isEmpty()) {
+            issueStateRepository.updateStates(changedIds, isClosed);
+            issueListViewRepository.updateStates(changedIds, isClosed);
+            if (isClosed) {
+                issueCounterService.issuesClosed(changedIds.size());
+            } else {
+                issueCounterService.issuesOpened(changedIds.size());
+            }
+            milestoneService.addClosedIssueDeltas(milestoneDeltas);
+            changedIds.forEach(dataVersion::bumpIssue);
+            dataVersion.bump();
+            eventPublisher.publishEvent(new IssueChangedEvent(changedIds));
+        }
+        log.info("이슈 상태 일괄 변경: 요청 {}건, 변경 {}건", requestedIds.size(), changedIds.size());
+
+        return IssueBulkStateResponse.builder()
+                .changedCount(changedIds.size())
+                .results(results)
+                .build();
     }
 
     public IssueNumberResponse getIssueNumber() {
-        long openIssueNum = issueRepository.countOpenIssues();
-        long closeIssueNum = issueRepository.countCloseIssues();
-        return IssueNumberResponse.builder()
-                .openIssueCount(openIssueNum)
-                .closeIssueCount(closeIssueNum)
-                .build();
+        return issueCounterService.getIssueNumber();
     }
 
     public void validateExistIssue(Long issueId) {
@@ -0,0 +1,7 @@
+package com.CodeSquad.IssueTracker.issues;
+
+public record IssueState(
+        Long issueId,
+        boolean isClosed,
+        Long milestoneId)
+{ }
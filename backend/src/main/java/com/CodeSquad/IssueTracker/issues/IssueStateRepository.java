@@ -0,0 +1,49 @@
+package com.CodeSquad.IssueTracker.issues;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+public class IssueStateRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public IssueStateRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 일괄 변경 대상 행을 먼저 잠가서, 어떤 이슈가 실제로 바뀌는지와 마일스톤별 변경 수가 UPDATE 결과와 어긋나지 않게 한다.
+    public List<IssueState> findStatesForUpdate(Collection<Long> issueIds) {
+        if (issueIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String sql = "SELECT issue_id, is_closed, milestone_id FROM issues WHERE issue_id IN (" +
+                placeholders(issueIds.size()) + ") FOR UPDATE";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new IssueState(
+                rs.getLong("issue_id"),
+                rs.getBoolean("is_closed"),
+                rs.getObject("milestone_id", Long.class)
+        ), issueIds.toArray());
+    }
+
+    public int updateStates(Collection<Long> issueIds, boolean isClosed) {
+        if (issueIds.isEmpty()) {
+            return 0;
+        }
+        List<Object> params = new ArrayList<>();
+        params.add(isClosed);
+        params.addAll(issueIds);
+        params.add(!isClosed);
+        String sql = "UPDATE issues SET is_closed = ? WHERE issue_id IN (" +
+                placeholders(issueIds.size()) + ") AND is_closed = ?";
+        return jdbcTemplate.update(sql, params.toArray());
+    }
+
+    private String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+}
@@ -1,44 +1,101 @@
 package com.CodeSquad.IssueTracker.issues;
 
+import com.CodeSquad.IssueTracker.cache.DataVersion;
+import com.CodeSquad.IssueTracker.cache.dto.CacheStatsResponse;
+import com.CodeSquad.IssueTracker.issues.dto.IssueBulkStateResponse;
 import com.CodeSquad.IssueTracker.issues.dto.IssueIds;
 import com.CodeSquad.IssueTracker.issues.dto.IssueListResponse;
+import com.CodeSquad.IssueTracker.issues.dto.IssuePageResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/issues")
 public class IssuesController {
     private final IssueService issueService;
+    private final IssuePageCache issuePageCache;
+    private final DataVersion dataVersion;
     private final static long PAGE_LIMIT = 15;
 
-    public IssuesController(IssueService issueService) {
+    public IssuesController(IssueService issueService, IssuePageCache issuePageCache, DataVersion dataVersion) {
         this.issueService = issueService;
+        this.issuePageCache = issuePageCache;
+        this.dataVersion = dataVersion;
     }
 
     @GetMapping("/open")
-    public ResponseEntity<List<IssueListResponse>> getOpenIssues(@RequestParam(value = "page", defaultValue = "1") long page) {
+    public ResponseEntity<?> getOpenIssues(@RequestParam(value = "page", defaultValue = "1") long page,
+                                           @RequestParam(value = "after", required = false) String after,
+                                           @RequestParam(value = "size", required = false) Long size,
+                                           WebRequest webRequest) {
+        String eTag = dataVersion.listETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        if (after != null || size != null) {
+            IssuePageResponse issuePage = issueService.findIssuesAfter(after, size == null ? PAGE_LIMIT : size, false);
+            return ResponseEntity.ok().eTag(eTag).body(issuePage);
+        }
+        Optional<String> cursor = issueService.findDeepPageCursor(page, PAGE_LIMIT, false);
+        if (cursor.isPresent()) {
+            return redirectToCursor("/issues/open", cursor.get());
+        }
         List<IssueListResponse> openIssues = issueService.findIssues(page, PAGE_LIMIT, false);
-        return ResponseEntity.ok(openIssues);
+        return ResponseEntity.ok().eTag(eTag).body(openIssues);
     }
 
     @GetMapping("/close")
-    public ResponseEntity<List<IssueListResponse>> getCloseIssues(@RequestParam(value = "page", defaultValue = "1") long page) {
+    public ResponseEntity<?> getCloseIssues(@RequestParam(value = "page", defaultValue = "1") long page,
+                                            @RequestParam(value = "after", required = false) String after,
+                                            @RequestParam(value = "size", required = false) Long size,
+                                            WebRequest webRequest) {
+        String eTag = dataVersion.listETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        if (after != null || size != null) {
+            IssuePageResponse issuePage = issueService.findIssuesAfter(after, size == null ? PAGE_LIMIT : size, true);
+            return ResponseEntity.ok().eTag(eTag).body(issuePage);
+        }
+        Optional<String> cursor = issueService.findDeepPageCursor(page, PAGE_LIMIT, true);
+        if (cursor.isPresent()) {
+            return redirectToCursor("/issues/close", cursor.get());
+        }
         List<IssueListResponse> openIssues = issueService.findIssues(page, PAGE_LIMIT, true);
-        return ResponseEntity.ok(openIssues);
+        return ResponseEntity.ok().eTag(eTag).body(openIssues);
     }
 
     @PatchMapping("/open")
-    public ResponseEntity<Void> openIssues(@RequestBody IssueIds issueIds) {
-        issueService.openIssues(issueIds);
-        return new ResponseEntity<>(HttpStatus.OK);
+    public ResponseEntity<IssueBulkStateResponse> openIssues(@RequestBody IssueIds issueIds) {
+        IssueBulkStateResponse response = issueService.openIssues(issueIds);
+        return ResponseEntity.ok(response);
     }
 
     @PatchMapping("/close")
-    public ResponseEntity<Void> closeIssues(@RequestBody IssueIds issueIds) {
-        issueService.closeIssues(issueIds);
-        return new ResponseEntity<>(HttpStatus.OK);
+    public ResponseEntity<IssueBulkStateResponse> closeIssues(@RequestBody IssueIds issueIds) {
+        IssueBulkStateResponse response = issueService.closeIssues(issueIds);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsResponse> getPageCacheStats() {
+        return ResponseEntity.ok(issuePageCache.getStats());
+    }
+
+    // 깊은 페이지는 같은 위치에서 시작하는 커서 조회 주소로 보낸다.
+    private ResponseEntity<?> redirectToCursor(String path, String cursor) {
+        URI location = UriComponentsBuilder.fromPath(path)
+                .queryParam("after", cursor)
+                .queryParam("size", PAGE_LIMIT)
+                .build()
+                .toUri();
+        return ResponseEntity.status(HttpStatus.SEE_OTHER).location(location).build();
     }
 }
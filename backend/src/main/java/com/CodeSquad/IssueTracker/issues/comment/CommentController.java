@@ -1,6 +1,7 @@
 package com.CodeSquad.IssueTracker.issues.comment;
 
 import com.CodeSquad.IssueTracker.issues.comment.dto.CommentCreateRequest;
+import com.CodeSquad.IssueTracker.issues.comment.dto.CommentPageResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -14,6 +15,14 @@ public class CommentController {
         this.commentService = commentService;
     }
 
+    @GetMapping("/issue/{issueId}/comments")
+    public ResponseEntity<CommentPageResponse> getComments(@PathVariable("issueId") Long issueId,
+                                                           @RequestParam(value = "after", required = false) String after,
+                                                           @RequestParam(value = "size", defaultValue = "15") long size) {
+        CommentPageResponse commentPage = commentService.getComments(issueId, after, size);
+        return ResponseEntity.ok(commentPage);
+    }
+
     @PostMapping("/issue/{issueId}/comment")
     public ResponseEntity<Void> addComment(@Valid @RequestBody CommentCreateRequest request,
                                            @PathVariable("issueId") Long issueId) {
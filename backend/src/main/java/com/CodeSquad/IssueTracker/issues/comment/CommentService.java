@@ -2,9 +2,13 @@ package com.CodeSquad.IssueTracker.issues.comment;
 
 import com.CodeSquad.IssueTracker.Exception.comment.AuthorNotMatchedException;
 import com.CodeSquad.IssueTracker.Exception.comment.CommentNotFoundException;
+import com.CodeSquad.IssueTracker.cache.DataVersion;
 import com.CodeSquad.IssueTracker.issues.IssueService;
 import com.CodeSquad.IssueTracker.issues.comment.dto.CommentCreateRequest;
+import com.CodeSquad.IssueTracker.issues.comment.dto.CommentPageResponse;
+import com.CodeSquad.IssueTracker.issues.event.CommentChangedEvent;
 import com.CodeSquad.IssueTracker.user.UserService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -15,11 +19,16 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final UserService userService;
     private final IssueService issueService;
+    private final DataVersion dataVersion;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CommentService(CommentRepository commentRepository, UserService userService, IssueService issueService) {
+    public CommentService(CommentRepository commentRepository, UserService userService, IssueService issueService,
+                          DataVersion dataVersion, ApplicationEventPublisher eventPublisher) {
         this.commentRepository = commentRepository;
         this.userService = userService;
         this.issueService = issueService;
+        this.dataVersion = dataVersion;
+        this.eventPublisher = eventPublisher;
     }
 
     public void addComment(CommentCreateRequest request, Long issueId) {
@@ -32,6 +41,8 @@ public class CommentService {
                 .publishedAt(LocalDateTime.now())
                 .build();
         commentRepository.save(comment);
+        dataVersion.bumpIssue(issueId);
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getCommentId()));
     }
 
     public void updateComment(CommentCreateRequest request, Long commentId) {
@@ -42,6 +53,13 @@ public class CommentService {
         }
 
         commentRepository.updateComment(commentId, request.content());
+        dataVersion.bumpIssue(comment.getIssueId());
+        eventPublisher.publishEvent(new CommentChangedEvent(commentId));
+    }
+
+    public CommentPageResponse getComments(Long issueId, String cursor, long size) {
+        issueService.validateExistIssue(issueId);
+        return issueService.findCommentPage(issueId, cursor, size);
     }
 
     public Comment validateExistComment(Long commentId) {
@@ -0,0 +1,11 @@
+package com.CodeSquad.IssueTracker.issues.comment.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record CommentPageResponse(
+        List<CommentResponse> comments,
+        String nextCursor)
+{ }
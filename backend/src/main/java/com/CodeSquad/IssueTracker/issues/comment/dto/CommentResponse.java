@@ -1,8 +1,14 @@
 package com.CodeSquad.IssueTracker.issues.comment.dto;
 
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class CommentResponse {
     private Long commentId;
     private String content;
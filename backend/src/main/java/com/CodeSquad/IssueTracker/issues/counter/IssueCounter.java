@@ -0,0 +1,18 @@
+package com.CodeSquad.IssueTracker.issues.counter;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Getter
+@AllArgsConstructor
+@Table("issue_counters")
+public class IssueCounter {
+    @Id
+    private Integer counterId;
+
+    private Long openCount;
+
+    private Long closedCount;
+}
@@ -0,0 +1,31 @@
+package com.CodeSquad.IssueTracker.issues.counter;
+
+import org.springframework.data.jdbc.repository.query.Modifying;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface IssueCounterRepository extends CrudRepository<IssueCounter, Integer> {
+
+    @Query("SELECT * FROM issue_counters WHERE counter_id = :counterId FOR UPDATE")
+    Optional<IssueCounter> findByIdForUpdate(Integer counterId);
+
+    @Modifying
+    @Query("UPDATE issue_counters SET open_count = open_count + :openDelta, closed_count = closed_count + :closedDelta " +
+            "WHERE counter_id = :counterId")
+    void addCounts(Integer counterId, long openDelta, long closedDelta);
+
+    @Query("SELECT :counterId AS counter_id, " +
+            "COALESCE(SUM(CASE WHEN is_closed = false THEN cnt END), 0) AS open_count, " +
+            "COALESCE(SUM(CASE WHEN is_closed = true THEN cnt END), 0) AS closed_count " +
+            "FROM (SELECT is_closed, COUNT(*) AS cnt FROM issues GROUP BY is_closed) grouped")
+    IssueCounter countIssuesByState(Integer counterId);
+
+    @Modifying
+    @Query("INSERT INTO issue_counters (counter_id, open_count, closed_count) VALUES (:counterId, :openCount, :closedCount) " +
+            "ON DUPLICATE KEY UPDATE open_count = :openCount, closed_count = :closedCount")
+    void saveCounts(Integer counterId, long openCount, long closedCount);
+}
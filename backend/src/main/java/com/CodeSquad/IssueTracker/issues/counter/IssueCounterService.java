@@ -0,0 +1,68 @@
+package com.CodeSquad.IssueTracker.issues.counter;
+
+import com.CodeSquad.IssueTracker.cache.DataVersion;
+import com.CodeSquad.IssueTracker.issues.dto.IssueNumberResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Slf4j
+@Service
+public class IssueCounterService {
+    private static final int COUNTER_ID = 1;
+
+    private final IssueCounterRepository issueCounterRepository;
+    private final DataVersion dataVersion;
+
+    public IssueCounterService(IssueCounterRepository issueCounterRepository, DataVersion dataVersion) {
+        this.issueCounterRepository = issueCounterRepository;
+        this.dataVersion = dataVersion;
+    }
+
+    public IssueNumberResponse getIssueNumber() {
+        IssueCounter counter = issueCounterRepository.findById(COUNTER_ID)
+                .orElseGet(() -> issueCounterRepository.countIssuesByState(COUNTER_ID));
+        return IssueNumberResponse.builder()
+                .openIssueCount(counter.getOpenCount())
+                .closeIssueCount(counter.getClosedCount())
+                .build();
+    }
+
+    public void issueCreated() {
+        issueCounterRepository.addCounts(COUNTER_ID, 1, 0);
+        dataVersion.bumpFilterList();
+    }
+
+    public void issuesOpened(long count) {
+        issueCounterRepository.addCounts(COUNTER_ID, count, -count);
+        dataVersion.bumpFilterList();
+    }
+
+    public void issuesClosed(long count) {
+        issueCounterRepository.addCounts(COUNTER_ID, -count, count);
+        dataVersion.bumpFilterList();
+    }
+
+    // 카운터 행을 먼저 잠가서 집계 도중 커밋되는 변경이 집계와 카운터 양쪽에 반영되는 것을 막는다.
+    @Transactional
+    @Scheduled(fixedDelayString = "${issue.counter.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        Optional<IssueCounter> current = issueCounterRepository.findByIdForUpdate(COUNTER_ID);
+        IssueCounter actual = issueCounterRepository.countIssuesByState(COUNTER_ID);
+
+        current.ifPresent(counter -> {
+            if (!counter.getOpenCount().equals(actual.getOpenCount())
+                    || !counter.getClosedCount().equals(actual.getClosedCount())) {
+                log.warn("이슈 카운터 불일치 보정: open {} -> {}, closed {} -> {}",
+                        counter.getOpenCount(), actual.getOpenCount(),
+                        counter.getClosedCount(), actual.getClosedCount());
+                dataVersion.bumpFilterList();
+            }
+        });
+
+        issueCounterRepository.saveCounts(COUNTER_ID, actual.getOpenCount(), actual.getClosedCount());
+    }
+}
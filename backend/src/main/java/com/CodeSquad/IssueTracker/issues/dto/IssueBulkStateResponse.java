@@ -0,0 +1,11 @@
+package com.CodeSquad.IssueTracker.issues.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record IssueBulkStateResponse(
+        long changedCount,
+        List<IssueStateResult> results)
+{ }
@@ -19,6 +19,7 @@ public class IssueDetailResponse {
     @Column("isClosed")
     private boolean isClosed;
     private List<CommentResponse> comments;
+    private String nextCommentCursor;
     private List<LabelRequest> labels;
     private List<String> assignees;
     private MilestoneInIssue milestone;
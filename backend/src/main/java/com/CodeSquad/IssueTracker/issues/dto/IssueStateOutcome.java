@@ -0,0 +1,7 @@
+package com.CodeSquad.IssueTracker.issues.dto;
+
+public enum IssueStateOutcome {
+    CHANGED,
+    UNCHANGED,
+    NOT_FOUND
+}
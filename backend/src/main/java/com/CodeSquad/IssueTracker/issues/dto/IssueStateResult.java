@@ -0,0 +1,6 @@
+package com.CodeSquad.IssueTracker.issues.dto;
+
+public record IssueStateResult(
+        Long issueId,
+        IssueStateOutcome outcome)
+{ }
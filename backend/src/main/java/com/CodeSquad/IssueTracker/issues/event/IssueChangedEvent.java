@@ -0,0 +1,7 @@
+package com.CodeSquad.IssueTracker.issues.event;
+
+import java.util.Collection;
+
+public record IssueChangedEvent(
+        Collection<Long> issueIds)
+{ }
@@ -0,0 +1,5 @@
+package com.CodeSquad.IssueTracker.issues.event;
+
+public record IssueTitleChangedEvent(
+        Long issueId)
+{ }
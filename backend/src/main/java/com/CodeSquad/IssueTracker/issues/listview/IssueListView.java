@@ -1,13 +1,14 @@
-package com.CodeSquad.IssueTracker.issues.dto;
+package com.CodeSquad.IssueTracker.issues.listview;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
-@AllArgsConstructor
 @Getter
-public class IssueDetailAccess {
+@AllArgsConstructor
+public class IssueListView {
     private Long issueId;
 
     private String title;
@@ -18,15 +19,9 @@ public class IssueDetailAccess {
 
     private Boolean isClosed;
 
-    private String assignee;
-
-    private Long labelId;
-
-    private String labelName;
-
-    private String bgColor;
+    private Long milestoneId;
 
-    private String textColor;
+    private List<String> assigneeIds;
 
-    private Long milestoneId;
+    private List<Long> labelIds;
 }
@@ -0,0 +1,24 @@
+package com.CodeSquad.IssueTracker.issues.listview;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+public class IssueListViewController {
+    private final IssueListViewRepository issueListViewRepository;
+
+    public IssueListViewController(IssueListViewRepository issueListViewRepository) {
+        this.issueListViewRepository = issueListViewRepository;
+    }
+
+    @PostMapping("/issues/list-view/rebuild")
+    public ResponseEntity<Void> rebuildIssueListView() {
+        log.info("이슈 목록 뷰 재생성 요청");
+        issueListViewRepository.rebuild();
+        log.info("이슈 목록 뷰 재생성 완료");
+        return ResponseEntity.ok().build();
+    }
+}
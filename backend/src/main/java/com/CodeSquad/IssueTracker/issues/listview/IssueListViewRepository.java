@@ -0,0 +1,131 @@
+package com.CodeSquad.IssueTracker.issues.listview;
+
+import com.CodeSquad.IssueTracker.guard.QueryCostGuard;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+@Repository
+public class IssueListViewRepository {
+    private static final long REBUILD_CHUNK_SIZE = 10_000;
+
+    private static final String UPSERT_FROM_ISSUES = "INSERT INTO issue_list_view " +
+            "(issue_id, title, author, published_at, is_closed, milestone_id, assignee_ids, label_ids) " +
+            "SELECT i.issue_id, i.title, i.author, i.published_at, i.is_closed, i.milestone_id, " +
+            "(SELECT GROUP_CONCAT(a.user_id ORDER BY a.user_id) FROM assignees a WHERE a.issue_id = i.issue_id), " +
+            "(SELECT GROUP_CONCAT(il.label_id ORDER BY il.label_id) FROM issueLabel il WHERE il.issue_id = i.issue_id) " +
+            "FROM issues i ";
+
+    private static final String ON_DUPLICATE_UPDATE = " ON DUPLICATE KEY UPDATE " +
+            "title = VALUES(title), author = VALUES(author), published_at = VALUES(published_at), " +
+            "is_closed = VALUES(is_closed), milestone_id = VALUES(milestone_id), " +
+            "assignee_ids = VALUES(assignee_ids), label_ids = VALUES(label_ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final QueryCostGuard queryCostGuard;
+
+    public IssueListViewRepository(JdbcTemplate jdbcTemplate, QueryCostGuard queryCostGuard) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queryCostGuard = queryCostGuard;
+    }
+
+    public void refresh(Long issueId) {
+        jdbcTemplate.update(UPSERT_FROM_ISSUES + "WHERE i.issue_id = ?" + ON_DUPLICATE_UPDATE, issueId);
+    }
+
+    public void rebuild() {
+        Long maxIssueId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(issue_id), 0) FROM issues", Long.class);
+        // 한 번에 전체를 다시 쓰지 않고 id 구간 단위로 나누어 갱신한다.
+        for (long from = 0; from < maxIssueId; from += REBUILD_CHUNK_SIZE) {
+            jdbcTemplate.update(UPSERT_FROM_ISSUES + "WHERE i.issue_id > ? AND i.issue_id <= ?" + ON_DUPLICATE_UPDATE,
+                    from, from + REBUILD_CHUNK_SIZE);
+        }
+        jdbcTemplate.update("DELETE v FROM issue_list_view v " +
+                "LEFT JOIN issues i ON v.issue_id = i.issue_id WHERE i.issue_id IS NULL");
+    }
+
+    public void updateStates(Collection<Long> issueIds, boolean isClosed) {
+        if (issueIds.isEmpty()) {
+            return;
+        }
+        List<Object> params = new ArrayList<>();
+        params.add(isClosed);
+        params.addAll(issueIds);
+        jdbcTemplate.update("UPDATE issue_list_view SET is_closed = ? WHERE issue_id IN (" +
+                String.join(",", Collections.nCopies(issueIds.size(), "?")) + ")", params.toArray());
+    }
+
+    // 라벨이 지워질 때 같은 트랜잭션에서 쉼표 목록에서 그 id만 뺀다. 마지막 라벨이었으면 NULL 이 된다.
+    public void removeLabel(Long labelId) {
+        jdbcTemplate.update("UPDATE issue_list_view SET label_ids = " +
+                "NULLIF(TRIM(BOTH ',' FROM REPLACE(CONCAT(',', label_ids, ','), CONCAT(',', ?, ','), ',')), '') " +
+                "WHERE FIND_IN_SET(?, label_ids) > 0", labelId, labelId);
+    }
+
+    public List<IssueListView> findPage(boolean isClosed, long limit, long offset) {
+        long startedAt = System.nanoTime();
+        try {
+            return queryCostGuard.jdbcTemplate().query("SELECT * FROM issue_list_view WHERE is_closed = ? " +
+                    "ORDER BY issue_id DESC LIMIT ? OFFSET ?", rowMapper(), isClosed, limit, offset);
+        } finally {
+            queryCostGuard.record("issue_list_view.page", System.nanoTime() - startedAt);
+        }
+    }
+
+    public List<IssueListView> findPageAfter(boolean isClosed, long after, long limit) {
+        long startedAt = System.nanoTime();
+        try {
+            return queryCostGuard.jdbcTemplate().query("SELECT * FROM issue_list_view WHERE is_closed = ? AND issue_id < ? " +
+                    "ORDER BY issue_id DESC LIMIT ?", rowMapper(), isClosed, after, limit);
+        } finally {
+            queryCostGuard.record("issue_list_view.page-after", System.nanoTime() - startedAt);
+        }
+    }
+
+    // (is_closed, issue_id) 인덱스만 읽어 offset 위치의 이슈 id를 찾는다. 행 본문은 읽지 않는다.
+    public Optional<Long> findIdAtOffset(boolean isClosed, long offset) {
+        long startedAt = System.nanoTime();
+        try {
+            return queryCostGuard.jdbcTemplate().queryForList("SELECT issue_id FROM issue_list_view WHERE is_closed = ? " +
+                    "ORDER BY issue_id DESC LIMIT 1 OFFSET ?", Long.class, isClosed, offset).stream().findFirst();
+        } finally {
+            queryCostGuard.record("issue_list_view.seek", System.nanoTime() - startedAt);
+        }
+    }
+
+    public List<IssueListView> findChunkAfter(long after, long limit) {
+        return jdbcTemplate.query("SELECT * FROM issue_list_view WHERE issue_id > ? " +
+                "ORDER BY issue_id LIMIT ?", rowMapper(), after, limit);
+    }
+
+    public List<IssueListView> findByIds(List<Long> issueIds) {
+        if (issueIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String sql = "SELECT * FROM issue_list_view WHERE issue_id IN (" +
+                String.join(",", Collections.nCopies(issueIds.size(), "?")) + ")";
+        return jdbcTemplate.query(sql, rowMapper(), issueIds.toArray());
+    }
+
+    public RowMapper<IssueListView> rowMapper() {
+        return (rs, rowNum) -> new IssueListView(
+                rs.getLong("issue_id"),
+                rs.getString("title"),
+                rs.getString("author"),
+                rs.getTimestamp("published_at").toLocalDateTime(),
+                rs.getBoolean("is_closed"),
+                rs.getObject("milestone_id", Long.class),
+                splitIds(rs.getString("assignee_ids")),
+                splitIds(rs.getString("label_ids")).stream().map(Long::valueOf).toList()
+        );
+    }
+
+    private List<String> splitIds(String joinedIds) {
+        if (joinedIds == null || joinedIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(joinedIds.split(","));
+    }
+}
@@ -0,0 +1,27 @@
+package com.CodeSquad.IssueTracker.issues.utils;
+
+import com.CodeSquad.IssueTracker.Exception.issue.InvalidIssuePageException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class IssueCursor {
+    private static final String CURSOR_PREFIX = "id:";
+
+    public static String encode(long id) {
+        byte[] raw = (CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    public static long decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(CURSOR_PREFIX)) {
+                throw new InvalidIssuePageException("유효하지 않은 커서입니다.");
+            }
+            return Long.parseLong(raw.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidIssuePageException("유효하지 않은 커서입니다.");
+        }
+    }
+}
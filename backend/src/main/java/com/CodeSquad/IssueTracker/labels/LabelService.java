@@ -1,28 +1,42 @@
 package com.CodeSquad.IssueTracker.labels;
 
 import com.CodeSquad.IssueTracker.Exception.label.*;
+import com.CodeSquad.IssueTracker.cache.DataVersion;
+import com.CodeSquad.IssueTracker.cache.ReferenceDataCache;
+import com.CodeSquad.IssueTracker.cache.event.CatalogChangedEvent;
+import com.CodeSquad.IssueTracker.issues.listview.IssueListViewRepository;
 import com.CodeSquad.IssueTracker.labels.dto.LabelDetailResponse;
 import com.CodeSquad.IssueTracker.labels.dto.LabelListResponse;
 import com.CodeSquad.IssueTracker.labels.dto.LabelRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 @Slf4j
 @Service
 public class LabelService {
 
     private final LabelRepository labelRepository;
-
-    public LabelService(LabelRepository labelRepository) {
+    private final IssueListViewRepository issueListViewRepository;
+    private final DataVersion dataVersion;
+    private final ReferenceDataCache referenceDataCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public LabelService(LabelRepository labelRepository, IssueListViewRepository issueListViewRepository,
+                        DataVersion dataVersion, ReferenceDataCache referenceDataCache,
+                        ApplicationEventPublisher eventPublisher) {
         this.labelRepository = labelRepository;
+        this.issueListViewRepository = issueListViewRepository;
+        this.dataVersion = dataVersion;
+        this.referenceDataCache = referenceDataCache;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<Label> getAllLabels() {
-        return (List<Label>) labelRepository.findAll();
+        return new ArrayList<>(referenceDataCache.getLabels().values());
     }
 
     public List<LabelDetailResponse> getAllLabelDetails() {
@@ -51,7 +65,7 @@ public class LabelService {
             throw new InvalidLabelIdException("유효하지 않은 라벨 ID: " + id);
         }
         log.info("라벨 id: {} 조회 요청", id);
-        return labelRepository.findById(id)
+        return referenceDataCache.findLabel(id)
                 .orElseThrow(() -> {
                     log.error("해당 라벨이 존재하지 않습니다: {}", id);
                     return new LabelNotFoundException("해당 라벨이 존재하지 않습니다: " + id);
@@ -59,7 +73,11 @@ public class LabelService {
     }
 
     public Set<Label> findAllByIds(Set<Long> ids) {
-        return labelRepository.findAllById(ids);
+        return new HashSet<>(referenceDataCache.findLabels(ids).values());
+    }
+
+    public Optional<Long> findLabelIdByName(String labelName) {
+        return referenceDataCache.findLabelIdByName(labelName);
     }
 
     public void validateLabels(Set<Long> labels) {
@@ -79,6 +97,8 @@ public class LabelService {
                 .build();
 
         labelRepository.save(label);
+        referenceDataCache.invalidateLabels();
+        dataVersion.bumpCatalog();
     }
 
     public void validateLabelRequest(LabelRequest newLabel, boolean isUpdate) {
@@ -106,14 +126,24 @@ public class LabelService {
             existingLabel.setBgColor(updatedLabel.bgColor());
             return labelRepository.save(existingLabel);
         }).orElseThrow(() -> new LabelNotFoundException("라벨 id: " + id + " 업데이트 실패, 해당 라벨이 존재하지 않습니다."));
+        referenceDataCache.invalidateLabels();
+        dataVersion.bumpCatalog();
+        if (!label.getLabelName().equals(updatedLabel.labelName())) {
+            eventPublisher.publishEvent(CatalogChangedEvent.labelRenamed(id));
+        }
     }
 
+    @Transactional
     public void deleteLabel(Long id) {
         log.info("라벨 id: {} 삭제 요청", id);
         if (!labelRepository.existsById(id)) {
             throw new LabelNotFoundException("라벨 id: " + id + " 삭제 실패, 해당 라벨이 존재하지 않습니다.");
         }
+        issueListViewRepository.removeLabel(id);
         labelRepository.deleteById(id);
+        referenceDataCache.invalidateLabels();
+        dataVersion.bumpCatalog();
+        eventPublisher.publishEvent(CatalogChangedEvent.labelDeleted(id));
     }
 
     public List<LabelListResponse> getLabelList() {
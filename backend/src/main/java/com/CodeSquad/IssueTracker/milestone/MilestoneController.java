@@ -1,6 +1,9 @@
 package com.CodeSquad.IssueTracker.milestone;
 
+import com.CodeSquad.IssueTracker.milestone.dto.MilestoneBurndownResponse;
+import com.CodeSquad.IssueTracker.milestone.dto.MilestoneCountResponse;
 import com.CodeSquad.IssueTracker.milestone.dto.MilestoneListResponse;
+import com.CodeSquad.IssueTracker.milestone.dto.MilestoneReconcileResponse;
 import com.CodeSquad.IssueTracker.milestone.dto.MilestoneRequest;
 import com.CodeSquad.IssueTracker.milestone.dto.MilestoneResponse;
 import org.springframework.http.ResponseEntity;
@@ -10,10 +13,18 @@ import java.util.List;
 
 @RestController
 public class MilestoneController {
+    private final static long PAGE_LIMIT = 15;
+    private final static String DEFAULT_SORT = "deadline";
+
     private final MilestoneService milestoneService;
+    private final MilestoneReconciler milestoneReconciler;
+    private final MilestoneSnapshotService milestoneSnapshotService;
 
-    public MilestoneController(MilestoneService milestoneService) {
+    public MilestoneController(MilestoneService milestoneService, MilestoneReconciler milestoneReconciler,
+                               MilestoneSnapshotService milestoneSnapshotService) {
         this.milestoneService = milestoneService;
+        this.milestoneReconciler = milestoneReconciler;
+        this.milestoneSnapshotService = milestoneSnapshotService;
     }
 
     @PostMapping("/milestone")
@@ -22,25 +33,50 @@ public class MilestoneController {
         return ResponseEntity.ok().build();
     }
 
+    // 페이지 파라미터가 하나라도 있으면 커서 페이지로, 없으면 기존처럼 전체 목록으로 응답한다.
     @GetMapping("/milestones/open")
-    public ResponseEntity<List<MilestoneResponse>> getAllOpenMilestones(){
+    public ResponseEntity<?> getAllOpenMilestones(@RequestParam(value = "sort", required = false) String sort,
+                                                  @RequestParam(value = "direction", required = false) String direction,
+                                                  @RequestParam(value = "after", required = false) String after,
+                                                  @RequestParam(value = "size", required = false) Long size){
+        if (sort != null || direction != null || after != null || size != null) {
+            return ResponseEntity.ok(milestoneService.getMilestonePage(false, sort == null ? DEFAULT_SORT : sort,
+                    direction, after, size == null ? PAGE_LIMIT : size));
+        }
         List<MilestoneResponse> milestones = milestoneService.getOpenMilestones();
         return ResponseEntity.ok(milestones);
     }
 
     @GetMapping("/milestones/close")
-    public ResponseEntity<List<MilestoneResponse>> getAllCloseMilestones(){
+    public ResponseEntity<?> getAllCloseMilestones(@RequestParam(value = "sort", required = false) String sort,
+                                                   @RequestParam(value = "direction", required = false) String direction,
+                                                   @RequestParam(value = "after", required = false) String after,
+                                                   @RequestParam(value = "size", required = false) Long size){
+        if (sort != null || direction != null || after != null || size != null) {
+            return ResponseEntity.ok(milestoneService.getMilestonePage(true, sort == null ? DEFAULT_SORT : sort,
+                    direction, after, size == null ? PAGE_LIMIT : size));
+        }
         List<MilestoneResponse> milestones = milestoneService.getCloseMilestones();
         return ResponseEntity.ok(milestones);
     }
 
+    @GetMapping("/milestones/count")
+    public ResponseEntity<MilestoneCountResponse> countMilestones() {
+        return ResponseEntity.ok(milestoneService.countMilestones());
+    }
+
     @GetMapping("/milestone/{milestoneId}")
     public ResponseEntity<MilestoneResponse> getMilestone(@PathVariable Long milestoneId) {
-        Milestone milestone = milestoneService.getMilestoneById(milestoneId);
-        MilestoneResponse milestoneResponse = milestoneService.getMilestoneResponse(milestone);
+        MilestoneResponse milestoneResponse = milestoneService.getMilestoneResponse(milestoneId);
         return ResponseEntity.ok(milestoneResponse);
     }
 
+    @GetMapping("/milestone/{milestoneId}/burndown")
+    public ResponseEntity<MilestoneBurndownResponse> getBurndown(@PathVariable Long milestoneId,
+                                                                 @RequestParam(value = "days", defaultValue = "90") int days) {
+        return ResponseEntity.ok(milestoneSnapshotService.getBurndown(milestoneId, days));
+    }
+
     @DeleteMapping("/milestone/{milestoneId}")
     public ResponseEntity<Void> deleteMilestone(@PathVariable Long milestoneId) {
         milestoneService.deleteMilestone(milestoneId);
@@ -70,4 +106,17 @@ public class MilestoneController {
         List<MilestoneListResponse> milestoneList = milestoneService.getOpenMilestoneList();
         return ResponseEntity.ok(milestoneList);
     }
+
+    @PostMapping("/milestone/reconcile")
+    public ResponseEntity<MilestoneReconcileResponse> reconcileMilestones(
+            @RequestParam(value = "full", defaultValue = "false") boolean full) {
+        return ResponseEntity.ok(milestoneReconciler.reconcile(full));
+    }
+
+    @GetMapping("/milestone/reconcile/report")
+    public ResponseEntity<MilestoneReconcileResponse> getReconcileReport() {
+        return milestoneReconciler.getLastReport()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
 }
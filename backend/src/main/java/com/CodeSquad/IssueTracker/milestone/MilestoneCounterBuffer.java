@@ -0,0 +1,193 @@
+package com.CodeSquad.IssueTracker.milestone;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+// 마일스톤 total_issue / closed_issue 변경을 메모리에 모았다가 주기적으로 한 번의 배치 UPDATE 로 반영한다.
+// 같은 마일스톤 행을 요청마다 잠그지 않도록 하기 위함이다.
+// 트랜잭션 안에서 생긴 변경은 커밋된 뒤에만 모으므로 롤백된 변경은 반영되지 않는다.
+@Slf4j
+@Component
+public class MilestoneCounterBuffer {
+    private final MilestoneCounterRepository milestoneCounterRepository;
+    private final MilestoneSnapshotRepository milestoneSnapshotRepository;
+    private final TransactionTemplate flushTransaction;
+    private final Map<Long, PendingDelta> pending = new ConcurrentHashMap<>();
+    private final Set<Long> touchedMilestoneIds = ConcurrentHashMap.newKeySet();
+    // flush 가 DB 에 쓰고 pending 에서 빼는 동안 홀수다. 읽는 쪽은 이 값이 그대로인 동안 읽은 결과만 쓴다.
+    private final AtomicLong flushSequence = new AtomicLong();
+
+    public MilestoneCounterBuffer(MilestoneCounterRepository milestoneCounterRepository,
+                                  MilestoneSnapshotRepository milestoneSnapshotRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.milestoneCounterRepository = milestoneCounterRepository;
+        this.milestoneSnapshotRepository = milestoneSnapshotRepository;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        // 요청 트랜잭션 안에서 불려도 pending 에서 빼기 전에 커밋이 끝나 있어야 한다.
+        this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void add(Long milestoneId, long totalIssueDelta, long closedIssueDelta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            merge(milestoneId, totalIssueDelta, closedIssueDelta);
+            return;
+        }
+        transactionDeltas().merge(milestoneId, new long[]{totalIssueDelta, closedIssueDelta}, (a, b) -> {
+            a[0] += b[0];
+            a[1] += b[1];
+            return a;
+        });
+    }
+
+    // 공용 버퍼에 더해 현재 트랜잭션이 아직 커밋하지 않은 자기 변경도 더한다.
+    public long pendingTotalIssue(Long milestoneId) {
+        PendingDelta delta = pending.get(milestoneId);
+        return (delta == null ? 0 : delta.totalIssue.sum()) + ownTransactionDelta(milestoneId)[0];
+    }
+
+    public long pendingClosedIssue(Long milestoneId) {
+        PendingDelta delta = pending.get(milestoneId);
+        return (delta == null ? 0 : delta.closedIssue.sum()) + ownTransactionDelta(milestoneId)[1];
+    }
+
+    // DB 에서 읽은 카운터와 pending 을 합치는 읽기는 이 안에서 한다.
+    // 읽는 도중 flush 가 커밋하고 pending 에서 빼면 같은 변경을 두 번 세거나 빠뜨리므로, 그 경우 다시 읽는다.
+    public <T> T readConsistently(Supplier<T> reader) {
+        while (true) {
+            long sequence = flushSequence.get();
+            if ((sequence & 1) != 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                continue;
+            }
+            T result = reader.get();
+            if (flushSequence.get() == sequence) {
+                return result;
+            }
+        }
+    }
+
+    // 배치 전체를 한 트랜잭션으로 쓰므로 실패하면 아무것도 반영되지 않고 다음 주기에 그대로 다시 시도한다.
+    @Scheduled(fixedDelayString = "${milestone.counter.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        Map<Long, MilestoneCounterDelta> deltas = new HashMap<>();
+        pending.forEach((milestoneId, delta) -> {
+            long totalIssue = delta.totalIssue.sum();
+            long closedIssue = delta.closedIssue.sum();
+            if (totalIssue != 0 || closedIssue != 0) {
+                deltas.put(milestoneId, new MilestoneCounterDelta(totalIssue, closedIssue));
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        flushSequence.incrementAndGet();
+        try {
+            flushTransaction.executeWithoutResult(status -> milestoneCounterRepository.addIssueDeltas(deltas));
+            deltas.forEach((milestoneId, delta) -> {
+                PendingDelta pendingDelta = pending.get(milestoneId);
+                pendingDelta.totalIssue.add(-delta.totalIssue());
+                pendingDelta.closedIssue.add(-delta.closedIssue());
+            });
+        } catch (RuntimeException e) {
+            log.error("마일스톤 카운터 반영 실패, 다음 주기에 다시 시도합니다: {}", deltas, e);
+            return;
+        } finally {
+            flushSequence.incrementAndGet();
+        }
+        log.info("마일스톤 카운터 반영: {}건", deltas.size());
+        recordSnapshots(deltas.keySet());
+    }
+
+    // 마지막으로 꺼낸 뒤 카운터가 바뀐 마일스톤 id를 꺼내고 비운다.
+    public Set<Long> drainTouchedMilestoneIds() {
+        Set<Long> drained = new HashSet<>();
+        for (Long milestoneId : touchedMilestoneIds) {
+            if (touchedMilestoneIds.remove(milestoneId)) {
+                drained.add(milestoneId);
+            }
+        }
+        return drained;
+    }
+
+    public void markTouched(Long milestoneId) {
+        touchedMilestoneIds.add(milestoneId);
+    }
+
+    // 번다운 차트용 오늘 스냅샷을 갱신한다. 실패해도 카운터 반영은 되돌리지 않는다.
+    public void recordSnapshots(Set<Long> milestoneIds) {
+        try {
+            milestoneSnapshotRepository.recordSnapshots(milestoneIds, LocalDate.now());
+        } catch (RuntimeException e) {
+            log.error("마일스톤 스냅샷 기록 실패: {}", milestoneIds, e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void merge(Long milestoneId, long totalIssueDelta, long closedIssueDelta) {
+        PendingDelta delta = pending.computeIfAbsent(milestoneId, id -> new PendingDelta());
+        delta.totalIssue.add(totalIssueDelta);
+        delta.closedIssue.add(closedIssueDelta);
+        touchedMilestoneIds.add(milestoneId);
+    }
+
+    private long[] ownTransactionDelta(Long milestoneId) {
+        @SuppressWarnings("unchecked")
+        Map<Long, long[]> deltas = (Map<Long, long[]>) TransactionSynchronizationManager.getResource(this);
+        long[] delta = deltas == null ? null : deltas.get(milestoneId);
+        return delta == null ? new long[]{0, 0} : delta;
+    }
+
+    // 트랜잭션마다 변경을 따로 모으고, 커밋 후에 한 번만 공용 버퍼로 옮긴다.
+    @SuppressWarnings("unchecked")
+    private Map<Long, long[]> transactionDeltas() {
+        Map<Long, long[]> deltas = (Map<Long, long[]>) TransactionSynchronizationManager.getResource(this);
+        if (deltas != null) {
+            return deltas;
+        }
+        Map<Long, long[]> created = new HashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // 공용 버퍼로 옮긴 뒤에도 자기 변경으로 한 번 더 세지 않도록 먼저 떼어 낸다.
+                TransactionSynchronizationManager.unbindResourceIfPossible(MilestoneCounterBuffer.this);
+                created.forEach((milestoneId, delta) -> merge(milestoneId, delta[0], delta[1]));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(MilestoneCounterBuffer.this);
+            }
+        });
+        return created;
+    }
+
+    private static class PendingDelta {
+        private final LongAdder totalIssue = new LongAdder();
+        private final LongAdder closedIssue = new LongAdder();
+    }
+}
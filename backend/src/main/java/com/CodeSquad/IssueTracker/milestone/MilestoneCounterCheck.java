@@ -0,0 +1,22 @@
+package com.CodeSquad.IssueTracker.milestone;
+
+// 마일스톤 행에 저장된 카운터와 issues 에서 다시 센 값.
+public record MilestoneCounterCheck(
+        Long milestoneId,
+        long storedTotalIssue,
+        long storedClosedIssue,
+        long actualTotalIssue,
+        long actualClosedIssue) {
+
+    public long totalIssueDrift() {
+        return actualTotalIssue - storedTotalIssue;
+    }
+
+    public long closedIssueDrift() {
+        return actualClosedIssue - storedClosedIssue;
+    }
+
+    public boolean hasDrift() {
+        return totalIssueDrift() != 0 || closedIssueDrift() != 0;
+    }
+}
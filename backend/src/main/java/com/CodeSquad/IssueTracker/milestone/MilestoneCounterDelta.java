@@ -0,0 +1,3 @@
+package com.CodeSquad.IssueTracker.milestone;
+
+public record MilestoneCounterDelta(long totalIssue, long closedIssue) { }
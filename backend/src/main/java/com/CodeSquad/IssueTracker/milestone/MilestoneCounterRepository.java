@@ -0,0 +1,60 @@
+package com.CodeSquad.IssueTracker.milestone;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class MilestoneCounterRepository {
+    private static final String COUNTER_CHECK = "SELECT m.milestone_id, m.total_issue, m.closed_issue, " +
+            "COUNT(i.issue_id) AS actual_total, COALESCE(SUM(i.is_closed = true), 0) AS actual_closed " +
+            "FROM milestone m LEFT JOIN issues i ON i.milestone_id = m.milestone_id ";
+    private static final String COUNTER_CHECK_GROUP = "GROUP BY m.milestone_id, m.total_issue, m.closed_issue ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MilestoneCounterRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 마일스톤별 변경 수를 한 번의 배치로 반영한다.
+    public void addIssueDeltas(Map<Long, MilestoneCounterDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = deltas.entrySet().stream()
+                .map(delta -> new Object[]{delta.getValue().totalIssue(), delta.getValue().closedIssue(), delta.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate("UPDATE milestone SET total_issue = total_issue + ?, closed_issue = closed_issue + ? " +
+                "WHERE milestone_id = ?", batchArgs);
+    }
+
+    // 저장된 카운터와 issues 에서 다시 센 값을 마일스톤별로 한 번의 집계로 가져온다.
+    public List<MilestoneCounterCheck> findCounterChecks(Collection<Long> milestoneIds) {
+        if (milestoneIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String sql = COUNTER_CHECK + "WHERE m.milestone_id IN (" +
+                String.join(",", Collections.nCopies(milestoneIds.size(), "?")) + ") " + COUNTER_CHECK_GROUP;
+        return jdbcTemplate.query(sql, counterCheckMapper(), milestoneIds.toArray());
+    }
+
+    public List<MilestoneCounterCheck> findCounterChecksAfter(long after, long limit) {
+        return jdbcTemplate.query(COUNTER_CHECK + "WHERE m.milestone_id > ? " + COUNTER_CHECK_GROUP +
+                "ORDER BY m.milestone_id LIMIT ?", counterCheckMapper(), after, limit);
+    }
+
+    private RowMapper<MilestoneCounterCheck> counterCheckMapper() {
+        return (rs, rowNum) -> new MilestoneCounterCheck(
+                rs.getLong("milestone_id"),
+                rs.getLong("total_issue"),
+                rs.getLong("closed_issue"),
+                rs.getLong("actual_total"),
+                rs.getLong("actual_closed"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.CodeSquad.IssueTracker.milestone;
+
+import com.CodeSquad.IssueTracker.milestone.dto.MilestoneCountResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+public class MilestonePageRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public MilestonePageRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // (sort 값, milestone_id) 순서로 커서 다음 행부터 읽는다. MySQL 은 NULL 을 가장 작은 값으로 정렬한다.
+    public List<MilestoneRow> findPage(boolean isClosed, MilestoneSort sort, boolean descending,
+                                       Object afterValue, Long afterId, long limit) {
+        String column = sort.getColumn();
+        String direction = descending ? "DESC" : "ASC";
+        String next = descending ? "<" : ">";
+        List<Object> params = new ArrayList<>();
+        params.add(isClosed);
+
+        StringBuilder sql = new StringBuilder("SELECT milestone_id, title, description, deadline, " +
+                "total_issue, closed_issue, is_closed, progress FROM milestone WHERE is_closed = ? ");
+        if (afterId != null) {
+            if (afterValue == null) {
+                sql.append(descending
+                        ? "AND " + column + " IS NULL AND milestone_id < ? "
+                        : "AND ((" + column + " IS NULL AND milestone_id > ?) OR " + column + " IS NOT NULL) ");
+                params.add(afterId);
+            } else {
+                sql.append("AND (").append(column).append(" ").append(next).append(" ? OR (")
+                        .append(column).append(" = ? AND milestone_id ").append(next).append(" ?)")
+                        .append(descending ? " OR " + column + " IS NULL" : "").append(") ");
+                params.add(afterValue);
+                params.add(afterValue);
+                params.add(afterId);
+            }
+        }
+        sql.append("ORDER BY ").append(column).append(" ").append(direction)
+                .append(", milestone_id ").append(direction).append(" LIMIT ?");
+        params.add(limit);
+        return jdbcTemplate.query(sql.toString(), rowMapper(), params.toArray());
+    }
+
+    public MilestoneCountResponse countMilestones() {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(is_closed = false), 0) AS open_count, " +
+                        "COALESCE(SUM(is_closed = true), 0) AS closed_count FROM milestone",
+                (rs, rowNum) -> new MilestoneCountResponse(rs.getLong("open_count"), rs.getLong("closed_count")));
+    }
+
+    private RowMapper<MilestoneRow> rowMapper() {
+        return (rs, rowNum) -> {
+            Timestamp deadline = rs.getTimestamp("deadline");
+            Milestone milestone = new Milestone(
+                    rs.getLong("milestone_id"),
+                    rs.getString("title"),
+                    rs.getString("description"),
+                    deadline == null ? null : deadline.toLocalDateTime());
+            milestone.setTotalIssue(rs.getInt("total_issue"));
+            milestone.setClosedIssue(rs.getInt("closed_issue"));
+            milestone.setIsClosed(rs.getBoolean("is_closed"));
+            return new MilestoneRow(milestone, rs.getBigDecimal("progress"));
+        };
+    }
+}
@@ -0,0 +1,122 @@
+package com.CodeSquad.IssueTracker.milestone;
+
+import com.CodeSquad.IssueTracker.cache.DataVersion;
+import com.CodeSquad.IssueTracker.milestone.dto.MilestoneDriftResponse;
+import com.CodeSquad.IssueTracker.milestone.dto.MilestoneReconcileResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+// milestone.total_issue / closed_issue 를 issues 에서 다시 세어 어긋난 만큼 고친다.
+// 처음 한 번은 전체를, 이후에는 마지막 실행 뒤 카운터가 바뀐 마일스톤만 검사한다.
+@Slf4j
+@Component
+public class MilestoneReconciler {
+    private static final int CHECK_CHUNK_SIZE = 500;
+
+    private final MilestoneCounterRepository milestoneCounterRepository;
+    private final MilestoneCounterBuffer milestoneCounterBuffer;
+    private final DataVersion dataVersion;
+    private final AtomicBoolean fullCheckPending = new AtomicBoolean(true);
+    private final AtomicReference<MilestoneReconcileResponse> lastReport = new AtomicReference<>();
+
+    public MilestoneReconciler(MilestoneCounterRepository milestoneCounterRepository,
+                               MilestoneCounterBuffer milestoneCounterBuffer, DataVersion dataVersion) {
+        this.milestoneCounterRepository = milestoneCounterRepository;
+        this.milestoneCounterBuffer = milestoneCounterBuffer;
+        this.dataVersion = dataVersion;
+    }
+
+    @Scheduled(initialDelayString = "${milestone.reconcile.initial-delay-ms:30000}",
+            fixedDelayString = "${milestone.reconcile.interval-ms:60000}")
+    public void reconcileScheduled() {
+        reconcile(fullCheckPending.getAndSet(false));
+    }
+
+    public synchronized MilestoneReconcileResponse reconcile(boolean full) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startedNanos = System.nanoTime();
+        // 버퍼에 남은 변경을 먼저 반영해야 저장된 값과 다시 센 값을 비교할 수 있다.
+        milestoneCounterBuffer.flush();
+        Set<Long> touched = milestoneCounterBuffer.drainTouchedMilestoneIds();
+
+        List<MilestoneDriftResponse> drifts = new ArrayList<>();
+        long[] counts = {0, 0};
+        if (full) {
+            long after = 0;
+            while (true) {
+                List<MilestoneCounterCheck> checks = milestoneCounterRepository.findCounterChecksAfter(after, CHECK_CHUNK_SIZE);
+                if (checks.isEmpty()) {
+                    break;
+                }
+                applyFixes(checks, drifts, counts);
+                after = checks.get(checks.size() - 1).milestoneId();
+            }
+        } else {
+            List<Long> milestoneIds = new ArrayList<>(touched);
+            for (int from = 0; from < milestoneIds.size(); from += CHECK_CHUNK_SIZE) {
+                List<Long> chunk = milestoneIds.subList(from, Math.min(from + CHECK_CHUNK_SIZE, milestoneIds.size()));
+                applyFixes(milestoneCounterRepository.findCounterChecks(chunk), drifts, counts);
+            }
+        }
+
+        MilestoneReconcileResponse report = MilestoneReconcileResponse.builder()
+                .startedAt(startedAt)
+                .full(full)
+                .checkedCount(counts[0])
+                .skippedCount(counts[1])
+                .elapsedMillis((System.nanoTime() - startedNanos) / 1_000_000)
+                .drifts(drifts)
+                .build();
+        lastReport.set(report);
+        if (!drifts.isEmpty()) {
+            log.warn("마일스톤 카운터 불일치 {}건 수정: {}", drifts.size(), drifts);
+        }
+        log.info("마일스톤 카운터 검사 완료: full={}, 검사 {}건, 보류 {}건, {}ms",
+                full, counts[0], counts[1], report.elapsedMillis());
+        return report;
+    }
+
+    public Optional<MilestoneReconcileResponse> getLastReport() {
+        return Optional.ofNullable(lastReport.get());
+    }
+
+    // 어긋난 만큼을 더하는 방식으로 고치므로, 검사와 수정 사이에 반영된 변경을 덮어쓰지 않는다.
+    private void applyFixes(List<MilestoneCounterCheck> checks, List<MilestoneDriftResponse> drifts, long[] counts) {
+        Map<Long, MilestoneCounterDelta> fixes = new HashMap<>();
+        for (MilestoneCounterCheck check : checks) {
+            counts[0]++;
+            if (!check.hasDrift()) {
+                continue;
+            }
+            // 검사 도중 들어온 변경이 버퍼에 있으면 비교가 맞지 않으므로 다음 실행으로 미룬다.
+            if (milestoneCounterBuffer.pendingTotalIssue(check.milestoneId()) != 0
+                    || milestoneCounterBuffer.pendingClosedIssue(check.milestoneId()) != 0) {
+                counts[1]++;
+                milestoneCounterBuffer.markTouched(check.milestoneId());
+                continue;
+            }
+            fixes.put(check.milestoneId(), new MilestoneCounterDelta(check.totalIssueDrift(), check.closedIssueDrift()));
+            drifts.add(MilestoneDriftResponse.builder()
+                    .milestoneId(check.milestoneId())
+                    .storedTotalIssue(check.storedTotalIssue())
+                    .actualTotalIssue(check.actualTotalIssue())
+                    .storedClosedIssue(check.storedClosedIssue())
+                    .actualClosedIssue(check.actualClosedIssue())
+                    .build());
+        }
+        if (fixes.isEmpty()) {
+            return;
+        }
+        milestoneCounterRepository.addIssueDeltas(fixes);
+        // 고친 마일스톤은 다음 실행에서 한 번 더 확인한다.
+        fixes.keySet().forEach(milestoneCounterBuffer::markTouched);
+        milestoneCounterBuffer.recordSnapshots(fixes.keySet());
+        dataVersion.bumpCatalog();
+    }
+}
@@ -23,22 +23,14 @@ public interface MilestoneRepository extends CrudRepository<Milestone, Long> {
     Milestone findByTitle(String title);
 
     @Modifying
-    @Query("UPDATE milestone SET total_issue = total_issue + 1 WHERE milestone_id = :milestoneId")
-    void incrementTotalIssue(Long milestoneId);
-
-    @Modifying
-    @Query("UPDATE milestone SET total_issue = total_issue - 1 WHERE milestone_id = :milestoneId")
-    void decrementTotalIssue(Long milestoneId);
-
-    @Modifying
-    @Query("UPDATE milestone SET closed_issue = closed_issue + 1 WHERE milestone_id = :milestoneId")
-    void incrementClosedIssue(Long milestoneId);
+    @Query("UPDATE issues SET milestone_id = NULL WHERE milestone_id = :milestoneId")
+    void deleteAllIssueReferences(Long milestoneId);
 
     @Modifying
-    @Query("UPDATE milestone SET closed_issue = closed_issue - 1 WHERE milestone_id = :milestoneId")
-    void decrementClosedIssue(Long milestoneId);
+    @Query("UPDATE issue_list_view SET milestone_id = NULL WHERE milestone_id = :milestoneId")
+    void deleteAllIssueListViewReferences(Long milestoneId);
 
     @Modifying
-    @Query("UPDATE issues SET milestone_id = NULL WHERE milestone_id = :milestoneId")
-    void deleteAllIssueReferences(Long milestoneId);
+    @Query("DELETE FROM milestone_snapshots WHERE milestone_id = :milestoneId")
+    void deleteAllSnapshots(Long milestoneId);
 }
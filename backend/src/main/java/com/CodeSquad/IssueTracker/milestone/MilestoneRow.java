@@ -0,0 +1,6 @@
+package com.CodeSquad.IssueTracker.milestone;
+
+import java.math.BigDecimal;
+
+// 페이지 조회 결과. 다음 커서를 만들 때 DB에 저장된 진행률 값을 그대로 써야 하므로 함께 읽는다.
+public record MilestoneRow(Milestone milestone, BigDecimal progress) { }
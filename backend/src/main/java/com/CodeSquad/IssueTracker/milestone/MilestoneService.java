@@ -2,16 +2,28 @@ package com.CodeSquad.IssueTracker.milestone;
 
 import com.CodeSquad.IssueTracker.Exception.milestone.InvalidMilestoneRequestException;
 import com.CodeSquad.IssueTracker.Exception.milestone.MilestoneNotFoundException;
+import com.CodeSquad.IssueTracker.cache.DataVersion;
+import com.CodeSquad.IssueTracker.cache.ReferenceDataCache;
+import com.CodeSquad.IssueTracker.cache.event.CatalogChangedEvent;
+import com.CodeSquad.IssueTracker.milestone.dto.MilestoneCountResponse;
 import com.CodeSquad.IssueTracker.milestone.dto.MilestoneInIssue;
 import com.CodeSquad.IssueTracker.milestone.dto.MilestoneListResponse;
+import com.CodeSquad.IssueTracker.milestone.dto.MilestonePageResponse;
 import com.CodeSquad.IssueTracker.milestone.dto.MilestoneRequest;
 import com.CodeSquad.IssueTracker.milestone.dto.MilestoneResponse;
+import com.CodeSquad.IssueTracker.milestone.utils.MilestoneCursor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.CodeSquad.IssueTracker.milestone.utils.TimestampParser.parseDeadline;
@@ -19,10 +31,24 @@ import static com.CodeSquad.IssueTracker.milestone.utils.TimestampParser.parseDe
 @Slf4j
 @Service
 public class MilestoneService {
+    private static final long MAX_PAGE_SIZE = 100;
+
     private final MilestoneRepository milestoneRepository;
+    private final MilestonePageRepository milestonePageRepository;
+    private final MilestoneCounterBuffer milestoneCounterBuffer;
+    private final DataVersion dataVersion;
+    private final ReferenceDataCache referenceDataCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public MilestoneService(MilestoneRepository milestoneRepository) {
+    public MilestoneService(MilestoneRepository milestoneRepository, MilestonePageRepository milestonePageRepository,
+                            MilestoneCounterBuffer milestoneCounterBuffer, DataVersion dataVersion,
+                            ReferenceDataCache referenceDataCache, ApplicationEventPublisher eventPublisher) {
         this.milestoneRepository = milestoneRepository;
+        this.milestonePageRepository = milestonePageRepository;
+        this.milestoneCounterBuffer = milestoneCounterBuffer;
+        this.dataVersion = dataVersion;
+        this.referenceDataCache = referenceDataCache;
+        this.eventPublisher = eventPublisher;
     }
 
     public void createMilestone(MilestoneRequest milestoneRequest) {
@@ -45,22 +71,30 @@ public class MilestoneService {
         );
 
         milestoneRepository.save(milestone);
+        referenceDataCache.invalidateMilestones();
+        dataVersion.bumpCatalog();
         log.info("마일스톤 생성 완료: {}", milestone);
     }
 
+    @Transactional
     public void deleteMilestone(Long milestoneId) {
         log.info("마일스톤 삭제 요청: {}", milestoneId);
         Milestone milestone = getMilestoneById(milestoneId);
 
         milestoneRepository.deleteAllIssueReferences(milestoneId);
+        milestoneRepository.deleteAllIssueListViewReferences(milestoneId);
+        milestoneRepository.deleteAllSnapshots(milestoneId);
         milestoneRepository.delete(milestone);
+        referenceDataCache.invalidateMilestones();
+        dataVersion.bumpCatalog();
+        eventPublisher.publishEvent(CatalogChangedEvent.milestoneDeleted(milestoneId));
         log.info("마일스톤 삭제 완료: {}", milestone);
     }
 
     public void validateMilestoneId(Long milestoneId) {
-        milestoneRepository.findById(milestoneId)
-                .orElseThrow(() ->
-                        new MilestoneNotFoundException("존재하지 않는 마일스톤입니다."));
+        if (!referenceDataCache.containsMilestone(milestoneId)) {
+            throw new MilestoneNotFoundException("존재하지 않는 마일스톤입니다.");
+        }
     }
 
     public Milestone getMilestoneById(Long milestoneId) {
@@ -72,26 +106,95 @@ public class MilestoneService {
                 });
     }
 
+    // 저장된 카운터와 아직 반영되지 않은 증감분을 같은 시점 기준으로 합친다.
+    public MilestoneResponse getMilestoneResponse(Long milestoneId) {
+        return milestoneCounterBuffer.readConsistently(() -> getMilestoneResponse(getMilestoneById(milestoneId)));
+    }
+
+    public <T> T readCounts(Supplier<T> reader) {
+        return milestoneCounterBuffer.readConsistently(reader);
+    }
+
     public MilestoneResponse getMilestoneResponse(Milestone milestone) {
         return MilestoneResponse.builder()
                 .milestoneId(milestone.getMilestoneId())
                 .title(milestone.getTitle())
                 .description(milestone.getDescription())
                 .deadline(milestone.getDeadline())
-                .totalIssue(milestone.getTotalIssue())
-                .closedIssue(milestone.getClosedIssue())
+                .totalIssue(milestone.getTotalIssue() + (int) milestoneCounterBuffer.pendingTotalIssue(milestone.getMilestoneId()))
+                .closedIssue(milestone.getClosedIssue() + (int) milestoneCounterBuffer.pendingClosedIssue(milestone.getMilestoneId()))
                 .isClosed(milestone.getIsClosed())
                 .build();
     }
 
     public List<MilestoneResponse> getOpenMilestones() {
         log.info("열린 마일스톤 조회 요청");
-        return createResponseList(milestoneRepository.findAllOpenMilestones());
+        return readCounts(() -> createResponseList(milestoneRepository.findAllOpenMilestones()));
     }
 
     public List<MilestoneResponse> getCloseMilestones() {
         log.info("닫힌 마일스톤 조회 요청");
-        return createResponseList(milestoneRepository.findAllCloseMilestones());
+        return readCounts(() -> createResponseList(milestoneRepository.findAllCloseMilestones()));
+    }
+
+    public MilestonePageResponse getMilestonePage(boolean isClosed, String sortKey, String direction,
+                                                  String cursor, long size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidMilestoneRequestException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하의 정수여야 합니다.");
+        }
+        MilestoneSort sort = MilestoneSort.fromKey(sortKey);
+        boolean descending = parseDirection(direction);
+
+        Object afterValue = null;
+        Long afterId = null;
+        if (cursor != null) {
+            MilestoneCursor decoded = MilestoneCursor.decode(cursor);
+            if (MilestoneSort.fromKey(decoded.sort()) != sort || decoded.descending() != descending) {
+                throw new InvalidMilestoneRequestException("커서의 정렬 조건이 요청과 다릅니다.");
+            }
+            afterValue = sort.parse(decoded.value());
+            afterId = decoded.milestoneId();
+        }
+
+        Object seekValue = afterValue;
+        Long seekId = afterId;
+        return readCounts(() -> {
+            // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회한다.
+            List<MilestoneRow> rows = milestonePageRepository.findPage(isClosed, sort, descending, seekValue, seekId, size + 1);
+            String nextCursor = null;
+            if (rows.size() > size) {
+                rows = rows.subList(0, (int) size);
+                MilestoneRow last = rows.get(rows.size() - 1);
+                nextCursor = new MilestoneCursor(sort.getColumn(), descending, last.milestone().getMilestoneId(),
+                        toCursorValue(sort.valueOf(last))).encode();
+            }
+
+            return MilestonePageResponse.builder()
+                    .milestones(createResponseList(rows.stream().map(MilestoneRow::milestone).toList()))
+                    .nextCursor(nextCursor)
+                    .build();
+        });
+    }
+
+    public MilestoneCountResponse countMilestones() {
+        return milestonePageRepository.countMilestones();
+    }
+
+    private boolean parseDirection(String direction) {
+        if (direction == null || direction.equalsIgnoreCase("asc")) {
+            return false;
+        }
+        if (direction.equalsIgnoreCase("desc")) {
+            return true;
+        }
+        throw new InvalidMilestoneRequestException("direction은 asc 또는 desc 여야 합니다: " + direction);
+    }
+
+    private String toCursorValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
     }
 
     public List<MilestoneResponse> createResponseList(List<Milestone> milestones) {
@@ -122,18 +225,25 @@ public class MilestoneService {
         }
 
         Milestone milestone = getMilestoneById(milestoneId);
+        boolean titleChanged = !milestone.getTitle().equals(milestoneRequest.title());
 
         log.info("마일스톤 편집 milestone: {}", milestoneId);
         milestone.setTitle(milestoneRequest.title());
         milestone.setDescription(milestoneRequest.description());
         milestone.setDeadline(parseDeadline(milestoneRequest.deadline()));
         milestoneRepository.save(milestone);
+        referenceDataCache.invalidateMilestones();
+        dataVersion.bumpCatalog();
+        if (titleChanged) {
+            eventPublisher.publishEvent(CatalogChangedEvent.milestoneRenamed(milestoneId));
+        }
     }
     public void closeMilestone(Long milestoneId) {
         Milestone milestone = getMilestoneById(milestoneId);
         milestone.setIsClosed(true);
         log.info("마일스톤 상태 변경 close milestone: {}", milestoneId);
         milestoneRepository.save(milestone);
+        dataVersion.bumpCatalog();
     }
 
     public void openMilestone(Long milestoneId) {
@@ -141,6 +251,7 @@ public class MilestoneService {
         milestone.setIsClosed(false);
         log.info("마일스톤 상태 변경 open milestone: {}", milestoneId);
         milestoneRepository.save(milestone);
+        dataVersion.bumpCatalog();
     }
 
     public List<MilestoneListResponse> getOpenMilestoneList() {
@@ -155,31 +266,63 @@ public class MilestoneService {
                 .collect(Collectors.toList());
     }
 
+    // 카운터 변경은 버퍼에 모았다가 한꺼번에 반영한다. 조회 응답에는 아직 반영되지 않은 값을 더해 준다.
     public void incrementTotalIssue(Long milestoneId){
-        getMilestoneById(milestoneId);
-        milestoneRepository.incrementTotalIssue(milestoneId);
+        addIssueDelta(milestoneId, 1, 0);
         log.info("마일스톤의 총 이슈 증가: {}", milestoneId);
     }
 
     public void decrementTotalIssue(Long milestoneId){
-        getMilestoneById(milestoneId);
-        milestoneRepository.decrementTotalIssue(milestoneId);
+        addIssueDelta(milestoneId, -1, 0);
         log.info("마일스톤의 총 이슈 감소: {}", milestoneId);
     }
 
     public void incrementClosedIssue(Long milestoneId){
-        getMilestoneById(milestoneId);
-        milestoneRepository.incrementClosedIssue(milestoneId);
+        addIssueDelta(milestoneId, 0, 1);
         log.info("마일스톤의 닫힌 이슈 증가: {}", milestoneId);
     }
 
     public void decrementClosedIssue(Long milestoneId){
-        getMilestoneById(milestoneId);
-        milestoneRepository.decrementClosedIssue(milestoneId);
+        addIssueDelta(milestoneId, 0, -1);
         log.info("마일스톤의 닫힌 이슈 감소: {}", milestoneId);
     }
 
+    public void addClosedIssueDeltas(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        deltas.forEach((milestoneId, delta) -> milestoneCounterBuffer.add(milestoneId, 0, delta));
+        dataVersion.bumpCatalog();
+        log.info("마일스톤의 닫힌 이슈 일괄 변경: {}", deltas);
+    }
+
+    private void addIssueDelta(Long milestoneId, long totalIssueDelta, long closedIssueDelta) {
+        milestoneCounterBuffer.add(milestoneId, totalIssueDelta, closedIssueDelta);
+        dataVersion.bumpCatalog();
+    }
+
+    public Map<Long, String> getMilestoneTitles() {
+        return referenceDataCache.getMilestoneTitles();
+    }
+
+    public Optional<Long> findMilestoneIdByTitle(String title) {
+        return referenceDataCache.findMilestoneIdByTitle(title);
+    }
+
     public MilestoneInIssue getMilestoneInIssue(long issueId) {
-        return milestoneRepository.getMilestoneInIssueById(issueId);
+        return readCounts(() -> {
+            MilestoneInIssue milestone = milestoneRepository.getMilestoneInIssueById(issueId);
+            if (milestone == null) {
+                return null;
+            }
+            return withPendingCounts(milestone);
+        });
+    }
+
+    // 아직 flush 되지 않은 카운터 증감분을 더한다. DB 조회와 함께 readCounts 안에서 불러야 한다.
+    public MilestoneInIssue withPendingCounts(MilestoneInIssue milestone) {
+        return new MilestoneInIssue(milestone.milestoneId(), milestone.title(),
+                milestone.totalIssue() + milestoneCounterBuffer.pendingTotalIssue(milestone.milestoneId()),
+                milestone.closedIssue() + milestoneCounterBuffer.pendingClosedIssue(milestone.milestoneId()));
     }
 }
@@ -0,0 +1,5 @@
+package com.CodeSquad.IssueTracker.milestone;
+
+import java.time.LocalDate;
+
+public record MilestoneSnapshot(LocalDate snapshotDate, int totalIssue, int closedIssue) { }
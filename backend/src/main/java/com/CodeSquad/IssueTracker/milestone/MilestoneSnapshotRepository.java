@@ -0,0 +1,60 @@
+package com.CodeSquad.IssueTracker.milestone;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.*;
+
+@Repository
+public class MilestoneSnapshotRepository {
+    private static final String UPSERT_FROM_MILESTONE = "INSERT INTO milestone_snapshots " +
+            "(milestone_id, snapshot_date, total_issue, closed_issue) " +
+            "SELECT milestone_id, ?, total_issue, closed_issue FROM milestone ";
+    private static final String ON_DUPLICATE_UPDATE = " ON DUPLICATE KEY UPDATE " +
+            "total_issue = VALUES(total_issue), closed_issue = VALUES(closed_issue)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MilestoneSnapshotRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 마일스톤 행의 현재 카운터를 그날 스냅샷으로 덮어쓴다.
+    public void recordSnapshots(Collection<Long> milestoneIds, LocalDate date) {
+        if (milestoneIds.isEmpty()) {
+            return;
+        }
+        List<Object> params = new ArrayList<>();
+        params.add(date);
+        params.addAll(milestoneIds);
+        jdbcTemplate.update(UPSERT_FROM_MILESTONE + "WHERE milestone_id IN (" +
+                String.join(",", Collections.nCopies(milestoneIds.size(), "?")) + ")" + ON_DUPLICATE_UPDATE,
+                params.toArray());
+    }
+
+    public void recordAllSnapshots(LocalDate date) {
+        jdbcTemplate.update(UPSERT_FROM_MILESTONE + ON_DUPLICATE_UPDATE, date);
+    }
+
+    public List<MilestoneSnapshot> findSnapshots(Long milestoneId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query("SELECT snapshot_date, total_issue, closed_issue FROM milestone_snapshots " +
+                "WHERE milestone_id = ? AND snapshot_date BETWEEN ? AND ? ORDER BY snapshot_date",
+                snapshotMapper(), milestoneId, from, to);
+    }
+
+    // 기간 첫날에 스냅샷이 없을 때 채워 넣을 직전 값.
+    public Optional<MilestoneSnapshot> findLatestBefore(Long milestoneId, LocalDate date) {
+        return jdbcTemplate.query("SELECT snapshot_date, total_issue, closed_issue FROM milestone_snapshots " +
+                "WHERE milestone_id = ? AND snapshot_date < ? ORDER BY snapshot_date DESC LIMIT 1",
+                snapshotMapper(), milestoneId, date).stream().findFirst();
+    }
+
+    private RowMapper<MilestoneSnapshot> snapshotMapper() {
+        return (rs, rowNum) -> new MilestoneSnapshot(
+                rs.getDate("snapshot_date").toLocalDate(),
+                rs.getInt("total_issue"),
+                rs.getInt("closed_issue"));
+    }
+}
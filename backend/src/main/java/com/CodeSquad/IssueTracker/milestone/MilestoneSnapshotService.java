@@ -0,0 +1,70 @@
+package com.CodeSquad.IssueTracker.milestone;
+
+import com.CodeSquad.IssueTracker.Exception.milestone.InvalidMilestoneRequestException;
+import com.CodeSquad.IssueTracker.milestone.dto.BurndownPoint;
+import com.CodeSquad.IssueTracker.milestone.dto.MilestoneBurndownResponse;
+import com.CodeSquad.IssueTracker.milestone.dto.MilestoneResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+
+// 번다운 차트는 milestone_snapshots 의 일별 값만 읽는다. issues 를 다시 훑지 않는다.
+@Slf4j
+@Service
+public class MilestoneSnapshotService {
+    private static final int MAX_BURNDOWN_DAYS = 366;
+
+    private final MilestoneSnapshotRepository milestoneSnapshotRepository;
+    private final MilestoneService milestoneService;
+
+    public MilestoneSnapshotService(MilestoneSnapshotRepository milestoneSnapshotRepository,
+                                    MilestoneService milestoneService) {
+        this.milestoneSnapshotRepository = milestoneSnapshotRepository;
+        this.milestoneService = milestoneService;
+    }
+
+    // 카운터 변경이 없던 날도 한 점씩 남도록 매일 전체 마일스톤의 값을 기록한다.
+    @Scheduled(cron = "${milestone.snapshot.cron:0 5 0 * * *}")
+    public void recordDailySnapshots() {
+        milestoneSnapshotRepository.recordAllSnapshots(LocalDate.now());
+        log.info("마일스톤 일별 스냅샷 기록");
+    }
+
+    public MilestoneBurndownResponse getBurndown(Long milestoneId, int days) {
+        if (days < 1 || days > MAX_BURNDOWN_DAYS) {
+            throw new InvalidMilestoneRequestException("days는 1 이상 " + MAX_BURNDOWN_DAYS + " 이하의 정수여야 합니다.");
+        }
+        MilestoneResponse milestone = milestoneService.getMilestoneResponse(milestoneId);
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(days - 1L);
+
+        Map<LocalDate, MilestoneSnapshot> snapshots = new HashMap<>();
+        milestoneSnapshotRepository.findSnapshots(milestoneId, from, today)
+                .forEach(snapshot -> snapshots.put(snapshot.snapshotDate(), snapshot));
+        MilestoneSnapshot previous = milestoneSnapshotRepository.findLatestBefore(milestoneId, from).orElse(null);
+
+        // 기록이 없는 날은 직전 값을 이어 쓰고, 오늘은 아직 반영되지 않은 변경까지 더한 현재 값을 쓴다.
+        List<BurndownPoint> points = new ArrayList<>();
+        for (LocalDate date = from; date.isBefore(today); date = date.plusDays(1)) {
+            previous = snapshots.getOrDefault(date, previous);
+            if (previous != null) {
+                points.add(toPoint(date, previous.totalIssue(), previous.closedIssue()));
+            }
+        }
+        points.add(toPoint(today, milestone.totalIssue(), milestone.closedIssue()));
+
+        return MilestoneBurndownResponse.builder()
+                .milestoneId(milestone.milestoneId())
+                .title(milestone.title())
+                .deadline(milestone.deadline())
+                .points(points)
+                .build();
+    }
+
+    private BurndownPoint toPoint(LocalDate date, int totalIssue, int closedIssue) {
+        return new BurndownPoint(date, totalIssue, closedIssue, totalIssue - closedIssue);
+    }
+}
@@ -0,0 +1,44 @@
+package com.CodeSquad.IssueTracker.milestone;
+
+import com.CodeSquad.IssueTracker.Exception.milestone.InvalidMilestoneRequestException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.Function;
+
+// 마일스톤 목록 정렬 기준. 각 기준은 (is_closed, 컬럼, milestone_id) 인덱스를 가진다.
+public enum MilestoneSort {
+    DEADLINE("deadline", row -> row.milestone().getDeadline(), LocalDateTime::parse),
+    PROGRESS("progress", MilestoneRow::progress, BigDecimal::new),
+    TITLE("title", row -> row.milestone().getTitle(), value -> value);
+
+    private final String column;
+    private final Function<MilestoneRow, Object> valueOf;
+    private final Function<String, Object> parser;
+
+    MilestoneSort(String column, Function<MilestoneRow, Object> valueOf, Function<String, Object> parser) {
+        this.column = column;
+        this.valueOf = valueOf;
+        this.parser = parser;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public Object valueOf(MilestoneRow row) {
+        return valueOf.apply(row);
+    }
+
+    public Object parse(String value) {
+        return value == null ? null : parser.apply(value);
+    }
+
+    public static MilestoneSort fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(sort -> sort.column.equalsIgnoreCase(key))
+                .findFirst()
+                .orElseThrow(() -> new InvalidMilestoneRequestException("sort는 deadline, progress, title 중 하나여야 합니다: " + key));
+    }
+}
@@ -0,0 +1,10 @@
+package com.CodeSquad.IssueTracker.milestone.dto;
+
+import java.time.LocalDate;
+
+public record BurndownPoint(
+        LocalDate date,
+        int totalIssue,
+        int closedIssue,
+        int openIssue)
+{ }
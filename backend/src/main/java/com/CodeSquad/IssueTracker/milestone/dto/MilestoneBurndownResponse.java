@@ -0,0 +1,14 @@
+package com.CodeSquad.IssueTracker.milestone.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Builder
+public record MilestoneBurndownResponse(
+        Long milestoneId,
+        String title,
+        LocalDateTime deadline,
+        List<BurndownPoint> points)
+{ }
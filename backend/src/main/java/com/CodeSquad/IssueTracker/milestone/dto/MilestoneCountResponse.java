@@ -0,0 +1,6 @@
+package com.CodeSquad.IssueTracker.milestone.dto;
+
+public record MilestoneCountResponse(
+        long openCount,
+        long closedCount)
+{ }
@@ -0,0 +1,12 @@
+package com.CodeSquad.IssueTracker.milestone.dto;
+
+import lombok.Builder;
+
+@Builder
+public record MilestoneDriftResponse(
+        Long milestoneId,
+        long storedTotalIssue,
+        long actualTotalIssue,
+        long storedClosedIssue,
+        long actualClosedIssue)
+{ }
@@ -0,0 +1,11 @@
+package com.CodeSquad.IssueTracker.milestone.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record MilestonePageResponse(
+        List<MilestoneResponse> milestones,
+        String nextCursor)
+{ }
@@ -0,0 +1,16 @@
+package com.CodeSquad.IssueTracker.milestone.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Builder
+public record MilestoneReconcileResponse(
+        LocalDateTime startedAt,
+        boolean full,
+        long checkedCount,
+        long skippedCount,
+        long elapsedMillis,
+        List<MilestoneDriftResponse> drifts)
+{ }
@@ -0,0 +1,35 @@
+package com.CodeSquad.IssueTracker.milestone.utils;
+
+import com.CodeSquad.IssueTracker.Exception.milestone.InvalidMilestoneRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 정렬 기준, 방향, 마지막 행의 정렬 값과 id 를 담는다. 정렬 값이 NULL 이면 value 도 null.
+public record MilestoneCursor(String sort, boolean descending, Long milestoneId, String value) {
+    private static final String CURSOR_PREFIX = "m";
+    private static final String SEPARATOR = ":";
+    private static final String NULL_MARK = "n";
+    private static final String VALUE_MARK = "v";
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, CURSOR_PREFIX, sort, descending ? "desc" : "asc",
+                String.valueOf(milestoneId), value == null ? NULL_MARK : VALUE_MARK + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MilestoneCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // 제목에 구분자가 들어 있을 수 있으므로 값은 마지막에 두고 나머지만 나눈다.
+            String[] parts = raw.split(SEPARATOR, 5);
+            if (parts.length != 5 || !parts[0].equals(CURSOR_PREFIX)) {
+                throw new InvalidMilestoneRequestException("유효하지 않은 커서입니다.");
+            }
+            String value = parts[4].startsWith(VALUE_MARK) ? parts[4].substring(VALUE_MARK.length()) : null;
+            return new MilestoneCursor(parts[1], parts[2].equals("desc"), Long.parseLong(parts[3]), value);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidMilestoneRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,405 @@
+package com.CodeSquad.IssueTracker.search;
+
+import com.CodeSquad.IssueTracker.Exception.search.SearchIndexException;
+import com.CodeSquad.IssueTracker.issues.event.CommentChangedEvent;
+import com.CodeSquad.IssueTracker.issues.event.IssueTitleChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+// 이슈 제목과 코멘트 본문을 로컬 디스크의 Lucene 색인에 넣어 두고 검색한다.
+// 한글은 형태소 분석 없이 2글자 단위(bigram)로 색인한다.
+// 색인은 search.index-path 아래 gen-<시각> 디렉터리에 세대별로 만든다. 전체 재생성은 새 디렉터리에 만든 뒤
+// 완료 표시를 커밋하고 교체하므로, 재생성 중에도 검색은 기존 색인을 그대로 본다.
+// 변경 이벤트마다 커밋하므로 프로세스가 죽어도 이미 처리한 변경은 남는다.
+@Slf4j
+@Component
+public class IssueSearchIndex {
+    private static final String DOC_ID = "doc_id";
+    private static final String ISSUE_ID = "issue_id";
+    private static final String GENERATION_PREFIX = "gen-";
+    private static final String COMPLETE = "complete";
+    private static final long REINDEX_CHUNK_SIZE = 1_000;
+    private static final float TITLE_BOOST = 2.0f;
+
+    private final SearchSourceRepository searchSourceRepository;
+    private final ExecutorService fanOutExecutor;
+    private final int maxCandidates;
+    private final Path basePath;
+    private final Analyzer analyzer = new CJKAnalyzer();
+    private final AtomicBoolean reindexing = new AtomicBoolean(false);
+    // 색인 변경은 read lock, 세대 교체는 write lock 을 잡는다.
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    // 재생성 중에 들어온 변경. 새 세대에 다시 반영한 뒤 교체한다.
+    private final Set<Long> changedIssueIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> changedCommentIds = ConcurrentHashMap.newKeySet();
+    private volatile Generation live;
+
+    public IssueSearchIndex(SearchSourceRepository searchSourceRepository, ExecutorService fanOutExecutor,
+                            @Value("${search.index-path:./data/search-index}") String indexPath,
+                            @Value("${search.max-candidates:1000}") int maxCandidates) throws IOException {
+        this.searchSourceRepository = searchSourceRepository;
+        this.fanOutExecutor = fanOutExecutor;
+        this.maxCandidates = maxCandidates;
+        this.basePath = Path.of(indexPath);
+        Files.createDirectories(basePath);
+        Optional<Path> latest = findLatestCompleteGeneration();
+        this.live = Generation.open(latest.orElseGet(this::newGenerationPath), analyzer);
+        deleteGenerationsExcept(live.path());
+    }
+
+    // 완료 표시가 있는 세대가 없으면(처음 실행, 또는 재생성 도중 종료) 전체 색인을 만든다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!live.isComplete()) {
+            reindexAsync();
+        }
+    }
+
+    public SearchHits search(String text) {
+        Query query = buildQuery(text);
+        if (query == null) {
+            return new SearchHits(Collections.emptyList(), false);
+        }
+
+        try {
+            // 세대 교체가 이전 SearcherManager 를 닫기 전에 searcher 를 잡아 두면, 닫힌 뒤에도 끝까지 읽을 수 있다.
+            SearcherManager searcherManager;
+            IndexSearcher searcher;
+            swapLock.readLock().lock();
+            try {
+                searcherManager = live.searcherManager();
+                searcher = searcherManager.acquire();
+            } finally {
+                swapLock.readLock().unlock();
+            }
+            try {
+                // 한 이슈의 여러 코멘트가 함께 걸릴 수 있으므로 문서를 넉넉히 가져와 이슈별 최고 점수로 묶는다.
+                TopDocs topDocs = searcher.search(query, maxCandidates * 4);
+                Map<Long, Float> scores = new LinkedHashMap<>();
+                StoredFields storedFields = searcher.storedFields();
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    long issueId = Long.parseLong(storedFields.document(scoreDoc.doc).get(ISSUE_ID));
+                    scores.merge(issueId, scoreDoc.score, Math::max);
+                }
+                List<Long> issueIds = scores.entrySet().stream()
+                        .sorted(Map.Entry.<Long, Float>comparingByValue().reversed()
+                                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                        .limit(maxCandidates)
+                        .map(Map.Entry::getKey)
+                        .toList();
+                boolean truncated = scores.size() > maxCandidates
+                        || topDocs.totalHits.value > topDocs.scoreDocs.length;
+                return new SearchHits(issueIds, truncated);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            log.error("검색 실패: {}", text, e);
+            throw new SearchIndexException("검색 색인을 읽을 수 없습니다.");
+        }
+    }
+
+    // 색인에는 제목만 들어가므로 상태, 담당자 같은 변경에는 반응하지 않는다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueTitleChanged(IssueTitleChangedEvent event) {
+        swapLock.readLock().lock();
+        try {
+            if (reindexing.get()) {
+                changedIssueIds.add(event.issueId());
+            }
+            Generation generation = live;
+            applyIssue(generation.writer(), event.issueId());
+            generation.commitAndRefresh();
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        swapLock.readLock().lock();
+        try {
+            if (reindexing.get()) {
+                changedCommentIds.add(event.commentId());
+            }
+            Generation generation = live;
+            applyComment(generation.writer(), event.commentId());
+            generation.commitAndRefresh();
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    // 전체 색인은 오래 걸릴 수 있으므로 백그라운드에서 돌린다. 이미 진행 중이면 false.
+    public boolean reindexAsync() {
+        if (!reindexing.compareAndSet(false, true)) {
+            return false;
+        }
+        fanOutExecutor.execute(() -> {
+            try {
+                reindex();
+            } catch (RuntimeException e) {
+                log.error("검색 색인 재생성 실패", e);
+            } finally {
+                changedIssueIds.clear();
+                changedCommentIds.clear();
+                reindexing.set(false);
+            }
+        });
+        return true;
+    }
+
+    private void reindex() {
+        long startedAt = System.currentTimeMillis();
+        Generation next;
+        try {
+            next = Generation.open(newGenerationPath(), analyzer);
+        } catch (IOException e) {
+            throw new SearchIndexException("새 검색 색인을 만들 수 없습니다.");
+        }
+
+        Generation previous;
+        long issues;
+        long comments;
+        try {
+            issues = indexAll(next.writer(), searchSourceRepository::findIssuesAfter);
+            comments = indexAll(next.writer(), searchSourceRepository::findCommentsAfter);
+            // 청크를 읽은 뒤 바뀐 문서는 예전 값으로 덮였을 수 있으므로 다시 읽어 반영한다.
+            replayChanges(next.writer());
+
+            swapLock.writeLock().lock();
+            try {
+                replayChanges(next.writer());
+                next.markComplete();
+                previous = live;
+                live = next;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        } catch (IOException | RuntimeException e) {
+            next.closeQuietly();
+            deleteGeneration(next.path());
+            throw (e instanceof RuntimeException runtimeException)
+                    ? runtimeException
+                    : new SearchIndexException("새 검색 색인을 커밋할 수 없습니다.");
+        }
+
+        // 이전 세대를 보고 있는 검색은 reader 참조가 남아 있어 닫은 뒤에도 끝까지 실행된다.
+        previous.closeQuietly();
+        deleteGeneration(previous.path());
+        log.info("검색 색인 재생성 완료: 이슈 {}건, 코멘트 {}건, {}ms",
+                issues, comments, System.currentTimeMillis() - startedAt);
+    }
+
+    private void replayChanges(IndexWriter writer) {
+        for (Long issueId : drain(changedIssueIds)) {
+            applyIssue(writer, issueId);
+        }
+        for (Long commentId : drain(changedCommentIds)) {
+            applyComment(writer, commentId);
+        }
+    }
+
+    private static List<Long> drain(Set<Long> ids) {
+        List<Long> drained = new ArrayList<>(ids);
+        ids.removeAll(drained);
+        return drained;
+    }
+
+    private long indexAll(IndexWriter writer, BiFunction<Long, Long, List<SearchDocument>> loader) {
+        long after = 0;
+        long indexed = 0;
+        while (true) {
+            List<SearchDocument> chunk = loader.apply(after, REINDEX_CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                return indexed;
+            }
+            chunk.forEach(document -> update(writer, document));
+            indexed += chunk.size();
+            after = chunk.get(chunk.size() - 1).sourceId();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        live.closeQuietly();
+    }
+
+    private Query buildQuery(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+        Query titleQuery = queryBuilder.createBooleanQuery(SearchDocument.TITLE, text);
+        Query contentQuery = queryBuilder.createBooleanQuery(SearchDocument.CONTENT, text);
+        if (titleQuery == null || contentQuery == null) {
+            return null;
+        }
+        return new BooleanQuery.Builder()
+                .add(new BoostQuery(titleQuery, TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                .add(contentQuery, BooleanClause.Occur.SHOULD)
+                .build();
+    }
+
+    private void applyIssue(IndexWriter writer, Long issueId) {
+        Optional<SearchDocument> document = searchSourceRepository.findIssue(issueId);
+        if (document.isPresent()) {
+            update(writer, document.get());
+        } else {
+            delete(writer, new Term(ISSUE_ID, String.valueOf(issueId)));
+        }
+    }
+
+    private void applyComment(IndexWriter writer, Long commentId) {
+        Optional<SearchDocument> document = searchSourceRepository.findComment(commentId);
+        if (document.isPresent()) {
+            update(writer, document.get());
+        } else {
+            delete(writer, new Term(DOC_ID, "comment-" + commentId));
+        }
+    }
+
+    private void update(IndexWriter writer, SearchDocument source) {
+        Document document = new Document();
+        document.add(new StringField(DOC_ID, source.docId(), Field.Store.NO));
+        document.add(new StringField(ISSUE_ID, String.valueOf(source.issueId()), Field.Store.YES));
+        document.add(new TextField(source.field(), source.text() == null ? "" : source.text(), Field.Store.NO));
+        try {
+            writer.updateDocument(new Term(DOC_ID, source.docId()), document);
+        } catch (IOException e) {
+            log.error("검색 색인 갱신 실패: {}", source.docId(), e);
+            throw new SearchIndexException("검색 색인을 갱신할 수 없습니다.");
+        }
+    }
+
+    private void delete(IndexWriter writer, Term term) {
+        try {
+            writer.deleteDocuments(term);
+        } catch (IOException e) {
+            log.error("검색 색인 삭제 실패: {}", term, e);
+            throw new SearchIndexException("검색 색인을 갱신할 수 없습니다.");
+        }
+    }
+
+    private Path newGenerationPath() {
+        return basePath.resolve(GENERATION_PREFIX + System.currentTimeMillis());
+    }
+
+    private Optional<Path> findLatestCompleteGeneration() throws IOException {
+        try (Stream<Path> paths = Files.list(basePath)) {
+            return paths.filter(path -> path.getFileName().toString().startsWith(GENERATION_PREFIX))
+                    .sorted(Comparator.comparing(Path::getFileName).reversed())
+                    .filter(IssueSearchIndex::isComplete)
+                    .findFirst();
+        }
+    }
+
+    private static boolean isComplete(Path path) {
+        try (Directory directory = FSDirectory.open(path)) {
+            return "true".equals(SegmentInfos.readLatestCommit(directory).getUserData().get(COMPLETE));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void deleteGenerationsExcept(Path keep) throws IOException {
+        try (Stream<Path> paths = Files.list(basePath)) {
+            paths.filter(path -> path.getFileName().toString().startsWith(GENERATION_PREFIX))
+                    .filter(path -> !path.equals(keep))
+                    .forEach(this::deleteGeneration);
+        }
+    }
+
+    private void deleteGeneration(Path path) {
+        try (Stream<Path> files = Files.walk(path)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            // 다음 기동 때 다시 지운다.
+            log.warn("이전 검색 색인 삭제 실패: {}", path, e);
+        }
+    }
+
+    private record Generation(Path path, Directory directory, IndexWriter writer, SearcherManager searcherManager) {
+
+        static Generation open(Path path, Analyzer analyzer) throws IOException {
+            Directory directory = FSDirectory.open(path);
+            IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            return new Generation(path, directory, writer, new SearcherManager(writer, null));
+        }
+
+        boolean isComplete() {
+            Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+            if (commitData == null) {
+                return false;
+            }
+            for (Map.Entry<String, String> entry : commitData) {
+                if (COMPLETE.equals(entry.getKey())) {
+                    return "true".equals(entry.getValue());
+                }
+            }
+            return false;
+        }
+
+        void markComplete() throws IOException {
+            writer.setLiveCommitData(Map.of(COMPLETE, "true").entrySet());
+            writer.commit();
+            searcherManager.maybeRefresh();
+        }
+
+        // 이벤트 하나를 처리할 때마다 디스크에 반영한다.
+        void commitAndRefresh() {
+            try {
+                writer.commit();
+                searcherManager.maybeRefresh();
+            } catch (IOException e) {
+                log.error("검색 색인 커밋 실패: {}", path, e);
+                throw new SearchIndexException("검색 색인을 갱신할 수 없습니다.");
+            }
+        }
+
+        void closeQuietly() {
+            try {
+                searcherManager.close();
+                writer.close();
+                directory.close();
+            } catch (IOException e) {
+                log.warn("검색 색인 닫기 실패: {}", path, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.CodeSquad.IssueTracker.search;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class SearchController {
+    private final IssueSearchIndex issueSearchIndex;
+
+    public SearchController(IssueSearchIndex issueSearchIndex) {
+        this.issueSearchIndex = issueSearchIndex;
+    }
+
+    @PostMapping("/search/reindex")
+    public ResponseEntity<Void> reindex() {
+        if (!issueSearchIndex.reindexAsync()) {
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        }
+        return new ResponseEntity<>(HttpStatus.ACCEPTED);
+    }
+}
@@ -0,0 +1,21 @@
+package com.CodeSquad.IssueTracker.search;
+
+// 이슈 제목 하나, 또는 코멘트 하나가 문서 하나가 된다.
+public record SearchDocument(
+        String docId,
+        long sourceId,
+        long issueId,
+        String field,
+        String text)
+{
+    public static final String TITLE = "title";
+    public static final String CONTENT = "content";
+
+    public static SearchDocument issue(long issueId, String title) {
+        return new SearchDocument("issue-" + issueId, issueId, issueId, TITLE, title);
+    }
+
+    public static SearchDocument comment(long commentId, long issueId, String content) {
+        return new SearchDocument("comment-" + commentId, commentId, issueId, CONTENT, content);
+    }
+}
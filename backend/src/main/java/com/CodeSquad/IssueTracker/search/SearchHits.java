@@ -0,0 +1,9 @@
+package com.CodeSquad.IssueTracker.search;
+
+import java.util.List;
+
+// 점수 순으로 정렬된 이슈 id. truncated 이면 후보 수 제한에 걸려 뒤쪽 결과가 잘렸다.
+public record SearchHits(
+        List<Long> issueIds,
+        boolean truncated)
+{ }
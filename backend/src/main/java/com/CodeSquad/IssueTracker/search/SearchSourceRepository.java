@@ -0,0 +1,42 @@
+package com.CodeSquad.IssueTracker.search;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class SearchSourceRepository {
+    private static final RowMapper<SearchDocument> ISSUE_MAPPER = (rs, rowNum) ->
+            SearchDocument.issue(rs.getLong("issue_id"), rs.getString("title"));
+    private static final RowMapper<SearchDocument> COMMENT_MAPPER = (rs, rowNum) ->
+            SearchDocument.comment(rs.getLong("comment_id"), rs.getLong("issue_id"), rs.getString("content"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SearchSourceRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<SearchDocument> findIssue(Long issueId) {
+        return jdbcTemplate.query("SELECT issue_id, title FROM issues WHERE issue_id = ?", ISSUE_MAPPER, issueId)
+                .stream().findFirst();
+    }
+
+    public Optional<SearchDocument> findComment(Long commentId) {
+        return jdbcTemplate.query("SELECT comment_id, issue_id, content FROM comments WHERE comment_id = ?",
+                COMMENT_MAPPER, commentId).stream().findFirst();
+    }
+
+    public List<SearchDocument> findIssuesAfter(long after, long limit) {
+        return jdbcTemplate.query("SELECT issue_id, title FROM issues WHERE issue_id > ? ORDER BY issue_id LIMIT ?",
+                ISSUE_MAPPER, after, limit);
+    }
+
+    public List<SearchDocument> findCommentsAfter(long after, long limit) {
+        return jdbcTemplate.query("SELECT comment_id, issue_id, content FROM comments WHERE comment_id > ? " +
+                "ORDER BY comment_id LIMIT ?", COMMENT_MAPPER, after, limit);
+    }
+}
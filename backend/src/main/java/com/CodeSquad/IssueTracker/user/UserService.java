@@ -2,6 +2,8 @@ package com.CodeSquad.IssueTracker.user;
 import com.CodeSquad.IssueTracker.Exception.user.InvalidCredentialException;
 import com.CodeSquad.IssueTracker.Exception.user.UserIdAlreadyExistException;
 import com.CodeSquad.IssueTracker.Exception.user.UserNotFoundException;
+import com.CodeSquad.IssueTracker.cache.DataVersion;
+import com.CodeSquad.IssueTracker.cache.ReferenceDataCache;
 import com.CodeSquad.IssueTracker.user.dto.CurrentUserResponse;
 import com.CodeSquad.IssueTracker.user.dto.LoginRequest;
 import com.CodeSquad.IssueTracker.user.dto.UserRegisterRequest;
@@ -21,11 +23,16 @@ import java.util.Set;
 public class UserService {
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final DataVersion dataVersion;
+    private final ReferenceDataCache referenceDataCache;
 
     @Autowired
-    public UserService(UserRepository userRepository, JwtUtil jwtUtil) {
+    public UserService(UserRepository userRepository, JwtUtil jwtUtil, DataVersion dataVersion,
+                       ReferenceDataCache referenceDataCache) {
         this.userRepository = userRepository;
         this.jwtUtil = jwtUtil;
+        this.dataVersion = dataVersion;
+        this.referenceDataCache = referenceDataCache;
     }
 
     public void save(UserRegisterRequest userRegisterRequest) {
@@ -36,6 +43,8 @@ public class UserService {
                 .build();
         verifyUserInfo(user);
         userRepository.save(user);
+        referenceDataCache.invalidateUsers();
+        dataVersion.bumpFilterList();
     }
 
     public void verifyUserInfo(User user) {
@@ -69,15 +78,18 @@ public class UserService {
     }
 
     public void validateExistUser(String userId) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> {
-                    log.info("인증 실패 : 존재하지 않는 유저입니다. userId : {}", userId);
-                    return new UserNotFoundException("해당 유저가 존재하지 않습니다.");
-                });
+        if (!referenceDataCache.containsUser(userId)) {
+            log.info("인증 실패 : 존재하지 않는 유저입니다. userId : {}", userId);
+            throw new UserNotFoundException("해당 유저가 존재하지 않습니다.");
+        }
+    }
+
+    public boolean existsAllUsers(Set<String> userIds) {
+        return referenceDataCache.containsAllUsers(userIds);
     }
 
     public List<String> getAllUserIds() {
-        return userRepository.getAllUserIds();
+        return referenceDataCache.getUserIds().stream().sorted().toList();
     }
 
     public Set<User> findAllByIds(Set<String> newAssigneeIds) {
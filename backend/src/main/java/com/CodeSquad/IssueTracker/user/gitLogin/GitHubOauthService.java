@@ -1,6 +1,8 @@
 package com.CodeSquad.IssueTracker.user.gitLogin;
 
 import com.CodeSquad.IssueTracker.Exception.user.UserNotFoundException;
+import com.CodeSquad.IssueTracker.cache.DataVersion;
+import com.CodeSquad.IssueTracker.cache.ReferenceDataCache;
 import com.CodeSquad.IssueTracker.user.User;
 import com.CodeSquad.IssueTracker.user.UserRepository;
 import com.CodeSquad.IssueTracker.user.jwtlogin.JwtUtil;
@@ -23,15 +25,20 @@ public class GitHubOauthService {
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
     private final GitHubUserRepository gitHubUserRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final DataVersion dataVersion;
     public GitHubOauthService(@Value("${github.client.id}") String clientId,
                               @Value("${github.client.secret}") String clientSecret,
-                              RestTemplate restTemplate, JwtUtil jwtUtil, UserRepository userRepository, GitHubUserRepository gitHubUserRepository) {
+                              RestTemplate restTemplate, JwtUtil jwtUtil, UserRepository userRepository, GitHubUserRepository gitHubUserRepository,
+                              ReferenceDataCache referenceDataCache, DataVersion dataVersion) {
         this.clientId = clientId;
         this.clientSecret = clientSecret;
         this.restTemplate = restTemplate;
         this.jwtUtil = jwtUtil;
         this.userRepository = userRepository;
         this.gitHubUserRepository = gitHubUserRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.dataVersion = dataVersion;
     }
 
     public String getAccessToken(String code) {
@@ -89,6 +96,8 @@ public class GitHubOauthService {
                             .userId(randomId)
                             .isNew(true)
                             .build());
+                    referenceDataCache.invalidateUsers();
+                    dataVersion.bumpFilterList();
 
                     GitHubUser newUser = GitHubUser.builder()
                             .githubId(gitHubUserId)
@@ -0,0 +1,2 @@
+-- /issues/open, /issues/close 커서 페이지네이션(issue_id < ?)용 인덱스
+CREATE INDEX idx_issues_closed_id ON issues (is_closed, issue_id);
@@ -0,0 +1,21 @@
+-- 이슈 목록 조회용 비정규화 테이블 (이슈당 한 행)
+-- assignee_ids, label_ids는 쉼표로 구분된 id 목록이다.
+CREATE TABLE issue_list_view (
+    issue_id     BIGINT       NOT NULL PRIMARY KEY,
+    title        VARCHAR(255) NOT NULL,
+    author       VARCHAR(255) NOT NULL,
+    published_at DATETIME     NOT NULL,
+    is_closed    BOOLEAN      NOT NULL,
+    milestone_id BIGINT       NULL,
+    assignee_ids TEXT         NULL,
+    label_ids    TEXT         NULL,
+    INDEX idx_issue_list_view_closed_id (is_closed, issue_id),
+    INDEX idx_issue_list_view_milestone (milestone_id),
+    INDEX idx_issue_list_view_author (is_closed, author, issue_id)
+);
+
+INSERT INTO issue_list_view (issue_id, title, author, published_at, is_closed, milestone_id, assignee_ids, label_ids)
+SELECT i.issue_id, i.title, i.author, i.published_at, i.is_closed, i.milestone_id,
+       (SELECT GROUP_CONCAT(a.user_id ORDER BY a.user_id) FROM assignees a WHERE a.issue_id = i.issue_id),
+       (SELECT GROUP_CONCAT(il.label_id ORDER BY il.label_id) FROM issueLabel il WHERE il.issue_id = i.issue_id)
+FROM issues i;
@@ -0,0 +1,9 @@
+-- 열린/닫힌 이슈 수를 한 행에 유지한다. (counter_id = 1)
+CREATE TABLE issue_counters (
+    counter_id   INT    NOT NULL PRIMARY KEY,
+    open_count   BIGINT NOT NULL DEFAULT 0,
+    closed_count BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO issue_counters (counter_id, open_count, closed_count)
+SELECT 1, COALESCE(SUM(is_closed = false), 0), COALESCE(SUM(is_closed = true), 0) FROM issues;
@@ -0,0 +1,2 @@
+-- 이슈별 코멘트 커서 페이지네이션(issue_id = ? AND comment_id > ?)용 인덱스
+CREATE INDEX idx_comments_issue_comment ON comments (issue_id, comment_id);
@@ -0,0 +1,9 @@
+-- 사용자가 저장한 필터. query 에는 정규화된 필터 문자열(is:open label:bug ...)을 저장한다.
+CREATE TABLE saved_filters (
+    saved_filter_id BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    name            VARCHAR(100) NOT NULL,
+    owner           VARCHAR(50)  NOT NULL,
+    query           VARCHAR(1000) NOT NULL,
+    created_at      DATETIME     NOT NULL,
+    INDEX idx_saved_filters_owner (owner)
+);
@@ -0,0 +1,2 @@
+-- 마일스톤 카운터 재계산(milestone_id 별 전체/닫힌 이슈 수 집계)이 인덱스만 읽도록 한다.
+CREATE INDEX idx_issues_milestone_closed ON issues (milestone_id, is_closed);
@@ -0,0 +1,11 @@
+-- 마일스톤 번다운 차트용 일별 카운터 스냅샷. 하루에 한 행만 두고 같은 날 변경은 덮어쓴다.
+CREATE TABLE milestone_snapshots (
+    milestone_id  BIGINT NOT NULL,
+    snapshot_date DATE   NOT NULL,
+    total_issue   INT    NOT NULL,
+    closed_issue  INT    NOT NULL,
+    PRIMARY KEY (milestone_id, snapshot_date)
+);
+
+INSERT INTO milestone_snapshots (milestone_id, snapshot_date, total_issue, closed_issue)
+SELECT milestone_id, CURRENT_DATE, total_issue, closed_issue FROM milestone;
@@ -0,0 +1,7 @@
+-- 마일스톤 목록 커서 페이지네이션용. 진행률은 정렬/인덱스에 쓸 수 있도록 저장 생성 컬럼으로 둔다.
+ALTER TABLE milestone
+    ADD COLUMN progress DECIMAL(7, 6) AS (IF(total_issue = 0, 0, closed_issue / total_issue)) STORED NOT NULL;
+
+CREATE INDEX idx_milestone_closed_deadline ON milestone (is_closed, deadline, milestone_id);
+CREATE INDEX idx_milestone_closed_progress ON milestone (is_closed, progress, milestone_id);
+CREATE INDEX idx_milestone_closed_title ON milestone (is_closed, title, milestone_id);
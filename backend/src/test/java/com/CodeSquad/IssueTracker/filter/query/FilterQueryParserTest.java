@@ -0,0 +1,85 @@
+package com.CodeSquad.IssueTracker.filter.query;
+
+import com.CodeSquad.IssueTracker.Exception.filter.InvalidFilterQueryException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FilterQueryParserTest {
+
+    @DisplayName("상태, 따옴표로 묶은 값, 부정 조건을 읽을 수 있어야 한다.")
+    @Test
+    public void testParseQualifiers() {
+        FilterQuery query = FilterQueryParser.parse("is:closed label:bug label:\"p 1\" -author:x milestone:\"v2\"", false);
+
+        assertThat(query.isClosed()).isTrue();
+        assertThat(query.clauses()).containsExactly(
+                new FilterClause(FilterField.LABEL, false, List.of("bug")),
+                new FilterClause(FilterField.LABEL, false, List.of("p 1")),
+                new FilterClause(FilterField.MILESTONE, false, List.of("v2")),
+                new FilterClause(FilterField.AUTHOR, true, List.of("x")));
+        assertThat(query.hasText()).isFalse();
+    }
+
+    @DisplayName("쉼표로 나열한 값은 하나의 OR 조건이 되고, no: 는 값이 없는 조건이 되어야 한다.")
+    @Test
+    public void testParseOrAndNo() {
+        FilterQuery query = FilterQueryParser.parse("label:bug,\"good first\" no:assignee", false);
+
+        assertThat(query.isClosed()).isFalse();
+        assertThat(query.clauses()).containsExactly(
+                new FilterClause(FilterField.ASSIGNEE, false, List.of()),
+                new FilterClause(FilterField.LABEL, false, List.of("bug", "good first")));
+    }
+
+    @DisplayName("키가 없는 단어와 알 수 없는 키는 검색어로 모아야 한다.")
+    @Test
+    public void testParseFreeText() {
+        FilterQuery query = FilterQueryParser.parse("로그인 오류 label:bug http://example.com", false);
+
+        assertThat(query.text()).isEqualTo("로그인 오류 http://example.com");
+        assertThat(query.clauses()).hasSize(1);
+    }
+
+    @DisplayName("순서와 띄어쓰기가 달라도 같은 질의는 같은 문자열로 정규화되어야 한다.")
+    @Test
+    public void testNormalize() {
+        FilterQuery first = FilterQueryParser.parse("label:b,a   -author:x is:open", true);
+        FilterQuery second = FilterQueryParser.parse("-author:x label:a,b", false);
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first.toQueryString()).isEqualTo("is:open label:a,b -author:x");
+    }
+
+    @DisplayName("닫히지 않은 따옴표나 잘못된 상태 값은 예외가 발생해야 한다.")
+    @Test
+    public void testInvalidQuery() {
+        assertThatThrownBy(() -> FilterQueryParser.parse("label:\"p 1", false))
+                .isInstanceOf(InvalidFilterQueryException.class);
+        assertThatThrownBy(() -> FilterQueryParser.parse("is:merged", false))
+                .isInstanceOf(InvalidFilterQueryException.class);
+        assertThatThrownBy(() -> FilterQueryParser.parse("no:author", false))
+                .isInstanceOf(InvalidFilterQueryException.class);
+    }
+
+    @DisplayName("조건 수, 조건별 값 수, 질의 길이가 한도를 넘으면 예외가 발생해야 한다.")
+    @Test
+    public void testLimits() {
+        String manyValues = "label:" + String.join(",", IntStream.rangeClosed(0, FilterQuery.MAX_VALUES_PER_CLAUSE)
+                .mapToObj(i -> "l" + i).toList());
+        String manyClauses = String.join(" ", IntStream.rangeClosed(0, FilterQuery.MAX_CLAUSES)
+                .mapToObj(i -> "label:l" + i).toList());
+
+        assertThatThrownBy(() -> FilterQueryParser.parse(manyValues, false))
+                .isInstanceOf(InvalidFilterQueryException.class);
+        assertThatThrownBy(() -> FilterQueryParser.parse(manyClauses, false))
+                .isInstanceOf(InvalidFilterQueryException.class);
+        assertThatThrownBy(() -> FilterQueryParser.parse("a".repeat(FilterQueryParser.MAX_QUERY_LENGTH + 1), false))
+                .isInstanceOf(InvalidFilterQueryException.class);
+    }
+}
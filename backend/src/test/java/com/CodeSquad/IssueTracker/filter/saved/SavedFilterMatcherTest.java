@@ -0,0 +1,78 @@
+package com.CodeSquad.IssueTracker.filter.saved;
+
+import com.CodeSquad.IssueTracker.filter.query.FilterQueryParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// CustomFilterRepository.clausePredicate 의 SQL 이 내는 결과와 같은지 조건 종류별로 확인한다.
+public class SavedFilterMatcherTest {
+    private static final SavedFilterMatcher.IssueFacts FULL = new SavedFilterMatcher.IssueFacts(
+            false, "writer", "v1", Set.of("alice", "bob"), Set.of("bug", "good first"));
+    private static final SavedFilterMatcher.IssueFacts EMPTY = new SavedFilterMatcher.IssueFacts(
+            false, "writer", null, Set.of(), Set.of());
+
+    @DisplayName("v.is_closed = ? 처럼 상태가 다르면 다른 조건과 상관없이 맞지 않아야 한다.")
+    @Test
+    public void testState() {
+        assertThat(matches("is:open", FULL)).isTrue();
+        assertThat(matches("is:closed", FULL)).isFalse();
+    }
+
+    @DisplayName("값을 나열한 조건은 FIND_IN_SET(...) OR ... 처럼 하나라도 맞으면 참이어야 한다.")
+    @Test
+    public void testValuesAreOr() {
+        assertThat(matches("assignee:carol,bob", FULL)).isTrue();
+        assertThat(matches("assignee:carol", FULL)).isFalse();
+        assertThat(matches("label:\"good first\",docs", FULL)).isTrue();
+        assertThat(matches("label:docs", FULL)).isFalse();
+        assertThat(matches("milestone:v2,v1", FULL)).isTrue();
+        assertThat(matches("author:writer", FULL)).isTrue();
+        assertThat(matches("author:other", FULL)).isFalse();
+    }
+
+    @DisplayName("서로 다른 조건은 AND 로 묶여야 한다.")
+    @Test
+    public void testClausesAreAnd() {
+        assertThat(matches("label:bug assignee:alice", FULL)).isTrue();
+        assertThat(matches("label:bug assignee:carol", FULL)).isFalse();
+    }
+
+    @DisplayName("값이 없는 이슈에서 값 조건은 IFNULL(..., 0) 때문에 거짓이고, 부정하면 참이어야 한다.")
+    @Test
+    public void testNullValuesUnderNegation() {
+        assertThat(matches("assignee:alice", EMPTY)).isFalse();
+        assertThat(matches("-assignee:alice", EMPTY)).isTrue();
+        assertThat(matches("label:bug", EMPTY)).isFalse();
+        assertThat(matches("-label:bug", EMPTY)).isTrue();
+        assertThat(matches("milestone:v1", EMPTY)).isFalse();
+        assertThat(matches("-milestone:v1", EMPTY)).isTrue();
+    }
+
+    @DisplayName("부정 조건은 값 중 하나라도 맞으면 거짓이어야 한다.")
+    @Test
+    public void testNegatedValues() {
+        assertThat(matches("-assignee:carol,alice", FULL)).isFalse();
+        assertThat(matches("-label:docs", FULL)).isTrue();
+        assertThat(matches("-milestone:v1", FULL)).isFalse();
+        assertThat(matches("-author:writer", FULL)).isFalse();
+    }
+
+    @DisplayName("no: 조건은 비어 있는 목록과 NULL 마일스톤에서만 참이어야 한다.")
+    @Test
+    public void testEmptyChecks() {
+        assertThat(matches("no:assignee no:label no:milestone", EMPTY)).isTrue();
+        assertThat(matches("no:assignee", FULL)).isFalse();
+        assertThat(matches("no:label", FULL)).isFalse();
+        assertThat(matches("no:milestone", FULL)).isFalse();
+        assertThat(matches("-no:label -no:milestone", FULL)).isTrue();
+        assertThat(matches("-no:label", EMPTY)).isFalse();
+    }
+
+    private boolean matches(String query, SavedFilterMatcher.IssueFacts facts) {
+        return SavedFilterMatcher.matches(FilterQueryParser.parse(query, false), facts);
+    }
+}
@@ -0,0 +1,123 @@
+package com.CodeSquad.IssueTracker.milestone;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// H2 MySQL 모드에서 버퍼에 모은 증감분이 DB 와 pending 사이에서 빠지거나 두 번 세어지지 않는지 본다.
+public class MilestoneCounterBufferTest {
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private MilestoneCounterBuffer milestoneCounterBuffer;
+
+    @BeforeEach
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:milestone_counter;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        // 음수가 되는 갱신을 실패시켜 배치 중간의 실패를 만든다.
+        jdbcTemplate.execute("CREATE TABLE milestone (milestone_id BIGINT PRIMARY KEY, " +
+                "total_issue INT CHECK (total_issue >= 0), closed_issue INT CHECK (closed_issue >= 0))");
+        jdbcTemplate.execute("CREATE TABLE milestone_snapshots (milestone_id BIGINT NOT NULL, snapshot_date DATE NOT NULL, " +
+                "total_issue INT NOT NULL, closed_issue INT NOT NULL, PRIMARY KEY (milestone_id, snapshot_date))");
+        jdbcTemplate.update("INSERT INTO milestone VALUES (1, 0, 0), (2, 0, 0)");
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        milestoneCounterBuffer = new MilestoneCounterBuffer(new MilestoneCounterRepository(jdbcTemplate),
+                new MilestoneSnapshotRepository(jdbcTemplate), transactionManager);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("DROP TABLE milestone");
+        jdbcTemplate.execute("DROP TABLE milestone_snapshots");
+    }
+
+    @DisplayName("flush 하면 DB 에 더한 만큼 pending 에서 빠져 합계는 그대로여야 한다.")
+    @Test
+    public void testFlushMovesPendingToDatabase() {
+        milestoneCounterBuffer.add(1L, 3, 1);
+
+        milestoneCounterBuffer.flush();
+
+        assertThat(storedTotalIssue(1L)).isEqualTo(3);
+        assertThat(milestoneCounterBuffer.pendingTotalIssue(1L)).isZero();
+        assertThat(milestoneCounterBuffer.pendingClosedIssue(1L)).isZero();
+    }
+
+    @DisplayName("배치 중간에 실패하면 앞선 갱신도 되돌려져, 다음 flush 에서 두 번 반영되지 않아야 한다.")
+    @Test
+    public void testFailedFlushIsAppliedOnce() {
+        milestoneCounterBuffer.add(1L, 2, 0);
+        milestoneCounterBuffer.add(2L, -1, 0);
+
+        milestoneCounterBuffer.flush();
+
+        assertThat(storedTotalIssue(1L)).isZero();
+        assertThat(milestoneCounterBuffer.pendingTotalIssue(1L)).isEqualTo(2);
+        assertThat(milestoneCounterBuffer.pendingTotalIssue(2L)).isEqualTo(-1);
+
+        milestoneCounterBuffer.add(2L, 1, 0);
+        milestoneCounterBuffer.flush();
+
+        assertThat(storedTotalIssue(1L)).isEqualTo(2);
+        assertThat(storedTotalIssue(2L)).isZero();
+        assertThat(milestoneCounterBuffer.pendingTotalIssue(1L)).isZero();
+    }
+
+    @DisplayName("트랜잭션 안의 변경은 그 트랜잭션에서만 보이다가 커밋되면 한 번만 공용 버퍼로 옮겨져야 한다.")
+    @Test
+    public void testOwnTransactionDeltaIsVisible() {
+        long insideTransaction = transactionTemplate.execute(status -> {
+            milestoneCounterBuffer.add(1L, 1, 0);
+            return milestoneCounterBuffer.pendingTotalIssue(1L);
+        });
+
+        assertThat(insideTransaction).isEqualTo(1);
+        assertThat(milestoneCounterBuffer.pendingTotalIssue(1L)).isEqualTo(1);
+    }
+
+    @DisplayName("롤백된 트랜잭션의 변경은 버퍼에 남지 않아야 한다.")
+    @Test
+    public void testRolledBackDeltaIsDiscarded() {
+        transactionTemplate.executeWithoutResult(status -> {
+            milestoneCounterBuffer.add(1L, 1, 1);
+            status.setRollbackOnly();
+        });
+
+        assertThat(milestoneCounterBuffer.pendingTotalIssue(1L)).isZero();
+        assertThat(milestoneCounterBuffer.pendingClosedIssue(1L)).isZero();
+    }
+
+    @DisplayName("DB 를 읽은 뒤 pending 을 읽기 전에 flush 가 끼어들면 다시 읽어 합계가 맞아야 한다.")
+    @Test
+    public void testReadRetriesAcrossFlush() {
+        milestoneCounterBuffer.add(1L, 4, 0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        long total = milestoneCounterBuffer.readConsistently(() -> {
+            long stored = storedTotalIssue(1L);
+            if (attempts.incrementAndGet() == 1) {
+                milestoneCounterBuffer.flush();
+            }
+            return stored + milestoneCounterBuffer.pendingTotalIssue(1L);
+        });
+
+        assertThat(total).isEqualTo(4);
+        assertThat(attempts.get()).isEqualTo(2);
+    }
+
+    private long storedTotalIssue(long milestoneId) {
+        return jdbcTemplate.queryForObject("SELECT total_issue FROM milestone WHERE milestone_id = ?", Long.class, milestoneId);
+    }
+}
@@ -0,0 +1,87 @@
+package com.CodeSquad.IssueTracker.milestone;
+
+import com.CodeSquad.IssueTracker.milestone.utils.MilestoneCursor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// MySQL 처럼 NULL 을 가장 작은 값으로 정렬하는 H2 MySQL 모드에서 커서를 따라 끝까지 읽어 본다.
+public class MilestonePageRepositoryTest {
+    private JdbcTemplate jdbcTemplate;
+    private MilestonePageRepository milestonePageRepository;
+
+    @BeforeEach
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:milestone_page;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE milestone (milestone_id BIGINT PRIMARY KEY, title VARCHAR(255), " +
+                "description VARCHAR(255), deadline DATETIME NULL, total_issue INT, closed_issue INT, " +
+                "is_closed BOOLEAN, progress DECIMAL(7, 6))");
+        // deadline 이 NULL 인 행과 값이 같은 행이 페이지 경계에 걸치도록 섞는다.
+        insert(1, "2024-03-01T00:00");
+        insert(2, null);
+        insert(3, "2024-01-01T00:00");
+        insert(4, null);
+        insert(5, "2024-03-01T00:00");
+        insert(6, null);
+        insert(7, "2024-02-01T00:00");
+        milestonePageRepository = new MilestonePageRepository(jdbcTemplate);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("DROP TABLE milestone");
+    }
+
+    @DisplayName("오름차순은 NULL 행을 먼저 읽고, 커서가 NULL 에서 값으로 넘어가도 빠지거나 겹치는 행이 없어야 한다.")
+    @Test
+    public void testAscendingAcrossNull() {
+        assertThat(readAll(false, 1)).containsExactly(2L, 4L, 6L, 3L, 7L, 1L, 5L);
+        assertThat(readAll(false, 2)).containsExactly(2L, 4L, 6L, 3L, 7L, 1L, 5L);
+        assertThat(readAll(false, 3)).containsExactly(2L, 4L, 6L, 3L, 7L, 1L, 5L);
+    }
+
+    @DisplayName("내림차순은 NULL 행을 마지막에 읽고, 커서가 값에서 NULL 로 넘어가도 빠지거나 겹치는 행이 없어야 한다.")
+    @Test
+    public void testDescendingAcrossNull() {
+        assertThat(readAll(true, 1)).containsExactly(5L, 1L, 7L, 3L, 6L, 4L, 2L);
+        assertThat(readAll(true, 2)).containsExactly(5L, 1L, 7L, 3L, 6L, 4L, 2L);
+        assertThat(readAll(true, 3)).containsExactly(5L, 1L, 7L, 3L, 6L, 4L, 2L);
+    }
+
+    // 서비스와 같이 마지막 행으로 커서를 만들고, 인코딩/디코딩을 거친 값으로 다음 페이지를 읽는다.
+    private List<Long> readAll(boolean descending, long pageSize) {
+        MilestoneSort sort = MilestoneSort.DEADLINE;
+        List<Long> ids = new ArrayList<>();
+        MilestoneCursor cursor = null;
+        for (int guard = 0; guard < 20; guard++) {
+            List<MilestoneRow> page = milestonePageRepository.findPage(false, sort, descending,
+                    cursor == null ? null : sort.parse(cursor.value()),
+                    cursor == null ? null : cursor.milestoneId(), pageSize);
+            if (page.isEmpty()) {
+                return ids;
+            }
+            page.forEach(row -> ids.add(row.milestone().getMilestoneId()));
+            MilestoneRow last = page.get(page.size() - 1);
+            Object value = sort.valueOf(last);
+            cursor = MilestoneCursor.decode(new MilestoneCursor(sort.getColumn(), descending,
+                    last.milestone().getMilestoneId(), value == null ? null : value.toString()).encode());
+        }
+        throw new AssertionError("커서가 끝나지 않습니다: " + ids);
+    }
+
+    private void insert(long milestoneId, String deadline) {
+        jdbcTemplate.update("INSERT INTO milestone VALUES (?, ?, '', ?, 0, 0, false, 0)",
+                milestoneId, "m" + milestoneId, deadline == null ? null : LocalDateTime.parse(deadline));
+    }
+}
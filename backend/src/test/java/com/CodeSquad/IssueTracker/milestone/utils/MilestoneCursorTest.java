@@ -0,0 +1,54 @@
+package com.CodeSquad.IssueTracker.milestone.utils;
+
+import com.CodeSquad.IssueTracker.Exception.milestone.InvalidMilestoneRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MilestoneCursorTest {
+
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 값이 나와야 한다.")
+    @Test
+    public void testRoundTrip() {
+        MilestoneCursor cursor = new MilestoneCursor("progress", true, 42L, "0.500000");
+
+        assertThat(MilestoneCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @DisplayName("정렬 값에 구분자(:)가 들어 있어도 그대로 복원되어야 한다.")
+    @Test
+    public void testValueWithSeparator() {
+        MilestoneCursor title = new MilestoneCursor("title", false, 7L, "v1: 로그인 :: 개선:");
+        MilestoneCursor deadline = new MilestoneCursor("deadline", true, 3L, "2024-05-01T10:30");
+
+        assertThat(MilestoneCursor.decode(title.encode())).isEqualTo(title);
+        assertThat(MilestoneCursor.decode(deadline.encode())).isEqualTo(deadline);
+    }
+
+    @DisplayName("정렬 값이 NULL 인 커서와 빈 문자열, n 으로 시작하는 값을 구분해야 한다.")
+    @Test
+    public void testNullValue() {
+        MilestoneCursor nullValue = new MilestoneCursor("deadline", false, 1L, null);
+        MilestoneCursor emptyValue = new MilestoneCursor("title", false, 1L, "");
+        MilestoneCursor nValue = new MilestoneCursor("title", false, 1L, "n");
+
+        assertThat(MilestoneCursor.decode(nullValue.encode()).value()).isNull();
+        assertThat(MilestoneCursor.decode(emptyValue.encode()).value()).isEmpty();
+        assertThat(MilestoneCursor.decode(nValue.encode()).value()).isEqualTo("n");
+    }
+
+    @DisplayName("형식이 맞지 않는 커서는 예외가 발생해야 한다.")
+    @Test
+    public void testInvalidCursor() {
+        assertThatThrownBy(() -> MilestoneCursor.decode("!!!"))
+                .isInstanceOf(InvalidMilestoneRequestException.class);
+        assertThatThrownBy(() -> MilestoneCursor.decode(Base64.getUrlEncoder().encodeToString("x:title:asc".getBytes())))
+                .isInstanceOf(InvalidMilestoneRequestException.class);
+        assertThatThrownBy(() -> MilestoneCursor.decode(Base64.getUrlEncoder().encodeToString("m:title:asc:abc:n".getBytes())))
+                .isInstanceOf(InvalidMilestoneRequestException.class);
+    }
+}